@@ -0,0 +1,79 @@
+package com.kap.algorithmspartone.percolation;
+
+import edu.princeton.cs.algs4.WeightedQuickUnionUF;
+
+import java.util.Arrays;
+
+/**
+ * Adapter which exposes algs4's WeightedQuickUnionUF as a UnionFind. This is the backend Percolation originally used.
+ * <p>
+ * WeightedQuickUnionUF does not expose the size of its components, so the adapter keeps its own copy of them.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class AlgsUnionFind implements UnionFind {
+
+    private static final String ISOLATE_UNSUPPORTED = "WeightedQuickUnionUF cannot isolate a single site.";
+
+    private final int sites;
+    private final int[] size;
+    private WeightedQuickUnionUF weightedQuickUnionUF;
+
+    /**
+     * @param n number of sites
+     */
+    AlgsUnionFind(int n) {
+        sites = n;
+        size = new int[n];
+        Arrays.fill(size, 1);
+        weightedQuickUnionUF = new WeightedQuickUnionUF(n);
+    }
+
+    @Override
+    public int find(int p) {
+        return weightedQuickUnionUF.find(p);
+    }
+
+    @Override
+    public void union(int p, int q) {
+        final int rootP = weightedQuickUnionUF.find(p);
+        final int rootQ = weightedQuickUnionUF.find(q);
+        if (rootP == rootQ) {
+            return;
+        }
+        weightedQuickUnionUF.union(rootP, rootQ);
+        size[weightedQuickUnionUF.find(rootP)] = size[rootP] + size[rootQ];
+    }
+
+    @Override
+    public boolean connected(int p, int q) {
+        return weightedQuickUnionUF.connected(p, q);
+    }
+
+    @Override
+    public int count() {
+        return weightedQuickUnionUF.count();
+    }
+
+    @Override
+    public int size(int root) {
+        return size[root];
+    }
+
+    /**
+     * WeightedQuickUnionUF cannot be cleared in place, so a new one is allocated.
+     */
+    @Override
+    public void reset() {
+        Arrays.fill(size, 1);
+        weightedQuickUnionUF = new WeightedQuickUnionUF(sites);
+    }
+
+    /**
+     * WeightedQuickUnionUF does not expose its parent array, so a single site cannot be isolated.
+     */
+    @Override
+    public void isolate(int p) {
+        throw new UnsupportedOperationException(ISOLATE_UNSUPPORTED);
+    }
+}
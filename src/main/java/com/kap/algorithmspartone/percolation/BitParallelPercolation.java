@@ -0,0 +1,204 @@
+package com.kap.algorithmspartone.percolation;
+
+import edu.princeton.cs.algs4.StdOut;
+
+/**
+ * Checks whether a whole grid of open sites percolates, working on 64 sites at a time.
+ * <p>
+ * A grid is a long array holding the rows one after the other, every row padded to a whole number of words. Column c
+ * (counted from 0) of a row is bit c &amp; 63 of word c &gt;&gt;&gt; 6 of the row. Bits beyond the last column are
+ * ignored.
+ * <p>
+ * The full sites of a row are the open runs which touch a full site of the row above or below. Within a word the runs
+ * are filled from their seeds with Kogge-Stone doubling, six shifted masks in each direction; runs which cross a word
+ * boundary are carried across by one sweep to the right and one to the left. The rows are swept downwards and then
+ * upwards, again and again, until nothing changes, which catches the paths which turn back up. Random grids near the
+ * threshold settle in a handful of sweeps, so one check costs a few dozen word operations per 64 sites, against up to
+ * four union find calls per site through Percolation.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class BitParallelPercolation {
+
+    private static final String SITES_INPUT_SUB_OR_EQUAL_ZERO = "Number of sites provided as an input is invalid." +
+                                                                "Valid input should be an integer biggen than zero";
+
+    private static final String INVALID_GRID_LENGTH = "Grid provided does not hold n rows of wordsPerRow(n) words.";
+
+    private static final String INVALID_PROBABILITY = "Probability provided is outside of the range 0 to 1.";
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    private BitParallelPercolation() {
+    }
+
+    /**
+     * @param n grid side length
+     *
+     * @return number of long words holding one row of an n-by-n grid
+     */
+    public static int wordsPerRow(int n) {
+        return (n + 63) >>> ADDRESS_BITS_PER_WORD;
+    }
+
+    /**
+     * Draws a grid whose sites are open independently with probability p.
+     *
+     * @param n    grid side length
+     * @param p    site vacancy probability
+     * @param seed seed of the random source
+     * @param type random source
+     *
+     * @return the grid, wordsPerRow(n) words per row
+     */
+    public static long[] randomGrid(int n, double p, long seed, RandomSourceType type) {
+        validateGridSize(n);
+        if (!((p >= 0) && (p <= 1))) {
+            throw new IllegalArgumentException(INVALID_PROBABILITY);
+        }
+        final RandomSource random = type.create(seed);
+        final int wordsPerRow = wordsPerRow(n);
+        final long[] grid = new long[n * wordsPerRow];
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                if (random.nextDouble() < p) {
+                    grid[(row * wordsPerRow) + (col >>> ADDRESS_BITS_PER_WORD)] |= 1L << col;
+                }
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * @param n    grid side length
+     * @param grid open sites, wordsPerRow(n) words per row
+     *
+     * @return true if an open path joins the top row to the bottom row. otherwise false.
+     */
+    public static boolean percolates(int n, long[] grid) {
+        validateGridSize(n);
+        final int wordsPerRow = wordsPerRow(n);
+        if (grid.length != (n * wordsPerRow)) {
+            throw new IllegalArgumentException(INVALID_GRID_LENGTH);
+        }
+
+        // working copy with the padding bits of every row cleared
+        final long[] open = grid.clone();
+        final long lastWordMask = -1L >>> (-n & 63);
+        for (int row = 0; row < n; row++) {
+            open[(row * wordsPerRow) + wordsPerRow - 1] &= lastWordMask;
+        }
+
+        final long[] full = new long[open.length];
+        System.arraycopy(open, 0, full, 0, wordsPerRow);
+        final long[] seed = new long[wordsPerRow];
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int row = 1; row < n; row++) {
+                changed |= fillRow(open, full, seed, row, row - 1, wordsPerRow);
+            }
+            if (isNotEmpty(full, n - 1, wordsPerRow)) {
+                return true;
+            }
+            for (int row = n - 2; row > 0; row--) {
+                changed |= fillRow(open, full, seed, row, row + 1, wordsPerRow);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds to a row the open runs which touch a full site of the row itself or of the neighbouring row provided.
+     *
+     * @return true if the row gained full sites
+     */
+    private static boolean fillRow(long[] open, long[] full, long[] seed, int row, int neighbour, int wordsPerRow) {
+        final int offset = row * wordsPerRow;
+        final int neighbourOffset = neighbour * wordsPerRow;
+        boolean grew = false;
+        for (int w = 0; w < wordsPerRow; w++) {
+            seed[w] = open[offset + w] & (full[offset + w] | full[neighbourOffset + w]);
+            grew |= seed[w] != full[offset + w];
+        }
+        if (!grew) {
+            return false;
+        }
+
+        // fill every word, carrying full runs into the next word on the way right and the previous one on the way left
+        for (int w = 0; w < wordsPerRow; w++) {
+            if ((w > 0) && (seed[w - 1] < 0)) {
+                seed[w] |= open[offset + w] & 1L;
+            }
+            seed[w] = fillRuns(seed[w], open[offset + w]);
+        }
+        for (int w = wordsPerRow - 2; w >= 0; w--) {
+            if ((seed[w + 1] & 1L) != 0) {
+                seed[w] = fillRuns(seed[w] | (open[offset + w] & Long.MIN_VALUE), open[offset + w]);
+            }
+        }
+
+        boolean changed = false;
+        for (int w = 0; w < wordsPerRow; w++) {
+            changed |= seed[w] != full[offset + w];
+            full[offset + w] = seed[w];
+        }
+        return changed;
+    }
+
+    /**
+     * Kogge-Stone fill: every run of ones of open which holds a bit of seed becomes all ones.
+     *
+     * @param seed subset of open
+     * @param open open sites of one word
+     *
+     * @return the runs of open holding a seed bit
+     */
+    static long fillRuns(long seed, long open) {
+        long up = seed;
+        long upMask = open;
+        long down = seed;
+        long downMask = open;
+        for (int shift = 1; shift < Long.SIZE; shift <<= 1) {
+            up |= upMask & (up << shift);
+            upMask &= upMask << shift;
+            down |= downMask & (down >>> shift);
+            downMask &= downMask >>> shift;
+        }
+        return up | down;
+    }
+
+    private static boolean isNotEmpty(long[] full, int row, int wordsPerRow) {
+        for (int w = row * wordsPerRow; w < (row + 1) * wordsPerRow; w++) {
+            if (full[w] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void validateGridSize(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException(SITES_INPUT_SUB_OR_EQUAL_ZERO);
+        }
+    }
+
+    /**
+     * Test client. Takes n, p and a number of trials and prints the fraction of random grids which percolate.
+     *
+     * @param args arguments array
+     */
+    public static void main(String[] args) {
+        int n = Integer.parseInt(args[0]);
+        double p = Double.parseDouble(args[1]);
+        int trials = Integer.parseInt(args[2]);
+        int percolating = 0;
+        for (int trial = 0; trial < trials; trial++) {
+            if (percolates(n, randomGrid(n, p, trial, RandomSourceType.SPLIT_MIX))) {
+                percolating++;
+            }
+        }
+        StdOut.println("Percolating fraction = " + ((double) percolating / trials));
+    }
+}
@@ -0,0 +1,91 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Bond percolation on a rectangular grid of m rows and n columns. Every site is present; what opens are the bonds
+ * between horizontally or vertically adjacent sites. The system percolates when open bonds join a site of row 1 to a
+ * site of row m. A site is full when open bonds join it to row 1, and every site counts as open.
+ *
+ * @author Konstantinos Antoniou
+ */
+public final class BondPercolation extends LatticePercolation {
+
+    private final int rows;
+    private final int cols;
+    private final SiteBitSet horizontalBonds;
+    private final SiteBitSet verticalBonds;
+    private int openBondsCount;
+
+    /**
+     * @param m number of rows
+     * @param n number of columns
+     */
+    public BondPercolation(int m, int n) {
+        super(((m <= 0) || (n <= 0)) ? 0 : ((long) m * n));
+        rows = m;
+        cols = n;
+        horizontalBonds = new SiteBitSet(sites());
+        verticalBonds = new SiteBitSet(sites());
+        for (int row = 1; row <= rows; row++) {
+            final byte flags = BoundaryFlags.ofRow(row, rows);
+            final int rowStart = cols * (row - 1);
+            for (int col = 0; col < cols; col++) {
+                openSite(rowStart + col, flags);
+            }
+        }
+    }
+
+    /**
+     * Opens the bond between (row, col) and (row, col + 1). Opening a bond which is already open has no effect.
+     *
+     * @param row row index provided, 1 to m
+     * @param col column index provided, 1 to n - 1
+     */
+    public void openHorizontalBond(int row, int col) {
+        validate(row, rows);
+        validate(col, cols - 1);
+        final int site = (cols * (row - 1)) + col - 1;
+        if (horizontalBonds.get(site)) {
+            return;
+        }
+        horizontalBonds.set(site);
+        openBondsCount++;
+        join(site, site + 1);
+    }
+
+    /**
+     * Opens the bond between (row, col) and (row + 1, col). Opening a bond which is already open has no effect.
+     *
+     * @param row row index provided, 1 to m - 1
+     * @param col column index provided, 1 to n
+     */
+    public void openVerticalBond(int row, int col) {
+        validate(row, rows - 1);
+        validate(col, cols);
+        final int site = (cols * (row - 1)) + col - 1;
+        if (verticalBonds.get(site)) {
+            return;
+        }
+        verticalBonds.set(site);
+        openBondsCount++;
+        join(site, site + cols);
+    }
+
+    /**
+     * @return number of open bonds
+     */
+    public int numberOfOpenBonds() {
+        return openBondsCount;
+    }
+
+    /**
+     * @param row site row index provided, 1 to m
+     * @param col site column index provided, 1 to n
+     *
+     * @return true if open bonds join the site to row 1. false otherwise.
+     */
+    public boolean isFull(int row, int col) {
+        validate(row, rows);
+        validate(col, cols);
+        return isFullSite((cols * (row - 1)) + col - 1);
+    }
+}
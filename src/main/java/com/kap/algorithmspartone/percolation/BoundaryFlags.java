@@ -0,0 +1,64 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Flags kept on the root of every cluster instead of virtual top and bottom sites, telling whether the cluster
+ * touches the top and the bottom boundary of its system. Every percolation kernel computes, merges and tests them
+ * through these helpers, so that the encoding lives in one place. Callers may keep other bits next to the flags, as
+ * long as they stay clear of TOP and BOTTOM.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class BoundaryFlags {
+
+    static final byte TOP = 1;
+    static final byte BOTTOM = 2;
+    static final byte SPANNING = TOP | BOTTOM;
+
+    private BoundaryFlags() {
+    }
+
+    /**
+     * @param row     row (or layer) index of a site, 1 to lastRow
+     * @param lastRow index of the bottom row
+     *
+     * @return flags of a site in the row provided
+     */
+    static byte ofRow(int row, int lastRow) {
+        byte flags = 0;
+        if (row == 1) {
+            flags |= TOP;
+        }
+        if (row == lastRow) {
+            flags |= BOTTOM;
+        }
+        return flags;
+    }
+
+    /**
+     * @param flagsP flags of the root of a cluster
+     * @param flagsQ flags of the root of another cluster
+     *
+     * @return flags of the cluster the two form once joined
+     */
+    static byte merge(int flagsP, int flagsQ) {
+        return (byte) (flagsP | flagsQ);
+    }
+
+    /**
+     * @param flags flags of the root of a cluster
+     *
+     * @return true if the cluster touches both the top and the bottom boundary
+     */
+    static boolean spans(int flags) {
+        return (flags & SPANNING) == SPANNING;
+    }
+
+    /**
+     * @param flags flags of the root of a cluster
+     *
+     * @return true if the cluster touches the top boundary, i.e. its sites are full
+     */
+    static boolean isFull(int flags) {
+        return (flags & TOP) != 0;
+    }
+}
@@ -0,0 +1,172 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.util.Arrays;
+
+/**
+ * Sparse histogram of cluster sizes: an open addressing map from a size to the number of clusters of that size.
+ * <p>
+ * The sizes of distinct clusters add up to at most n^2 sites, so at most about sqrt(2) * n distinct sizes exist at any
+ * time. The table therefore stays a few kilobytes even on grids where a dense n^2 + 1 array would take gigabytes.
+ * Sizes are keys from 1 up, 0 marks an empty slot, and a size whose count drops to zero is removed by shifting the
+ * entries of its probe run back, so that lookups never meet tombstones.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class ClusterSizeHistogram {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // golden ratio multiplier, spreads consecutive sizes over the table
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private int[] sizes = new int[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int distinctSizes;
+
+    /**
+     * @param size cluster size, at least 1
+     *
+     * @return number of clusters with exactly that many sites
+     */
+    int count(int size) {
+        final int mask = sizes.length - 1;
+        for (int slot = slot(size, mask); sizes[slot] != 0; slot = (slot + 1) & mask) {
+            if (sizes[slot] == size) {
+                return counts[slot];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Adds one cluster of the size provided.
+     *
+     * @param size cluster size, at least 1
+     */
+    void increment(int size) {
+        add(size, 1);
+    }
+
+    /**
+     * Adds clusters of the size provided.
+     *
+     * @param size  cluster size, at least 1
+     * @param count number of clusters, at least 1
+     */
+    void add(int size, int count) {
+        final int mask = sizes.length - 1;
+        int slot = slot(size, mask);
+        while (sizes[slot] != 0) {
+            if (sizes[slot] == size) {
+                counts[slot] += count;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        sizes[slot] = size;
+        counts[slot] = count;
+        distinctSizes++;
+        if (2 * distinctSizes > sizes.length) {
+            grow();
+        }
+    }
+
+    /**
+     * Removes one cluster of the size provided, which must be counted.
+     *
+     * @param size cluster size, at least 1
+     */
+    void decrement(int size) {
+        final int mask = sizes.length - 1;
+        int slot = slot(size, mask);
+        while (sizes[slot] != size) {
+            slot = (slot + 1) & mask;
+        }
+        if (--counts[slot] == 0) {
+            remove(slot, mask);
+        }
+    }
+
+    /**
+     * @return number of distinct sizes counted
+     */
+    int distinctSizes() {
+        return distinctSizes;
+    }
+
+    /**
+     * @return largest size counted. 0 if the histogram is empty.
+     */
+    int largestSize() {
+        int largest = 0;
+        for (int size : sizes) {
+            largest = Math.max(largest, size);
+        }
+        return largest;
+    }
+
+    /**
+     * @return every counted size followed by its count, in no particular order
+     */
+    int[] toPairs() {
+        final int[] pairs = new int[2 * distinctSizes];
+        int next = 0;
+        for (int slot = 0; slot < sizes.length; slot++) {
+            if (sizes[slot] != 0) {
+                pairs[next++] = sizes[slot];
+                pairs[next++] = counts[slot];
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Empties the histogram. The table keeps its capacity, so a reused system does not grow it again.
+     */
+    void clear() {
+        if (distinctSizes != 0) {
+            Arrays.fill(sizes, 0);
+            distinctSizes = 0;
+        }
+    }
+
+    /**
+     * Empties a slot and moves back every later entry of the probe run which would otherwise become unreachable.
+     */
+    private void remove(int hole, int mask) {
+        distinctSizes--;
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (sizes[slot] == 0) {
+                break;
+            }
+            final int home = slot(sizes[slot], mask);
+            // the entry may fill the hole unless its home lies cyclically in (hole, slot]
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                sizes[hole] = sizes[slot];
+                counts[hole] = counts[slot];
+                hole = slot;
+            }
+        }
+        sizes[hole] = 0;
+    }
+
+    private void grow() {
+        final int[] oldSizes = sizes;
+        final int[] oldCounts = counts;
+        sizes = new int[2 * oldSizes.length];
+        counts = new int[2 * oldCounts.length];
+        distinctSizes = 0;
+        for (int slot = 0; slot < oldSizes.length; slot++) {
+            if (oldSizes[slot] != 0) {
+                add(oldSizes[slot], oldCounts[slot]);
+            }
+        }
+    }
+
+    private static int slot(int size, int mask) {
+        final int hash = size * HASH_MULTIPLIER;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,112 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.util.Arrays;
+
+/**
+ * Weighted quick union find backed by two int arrays. Components are linked by size and paths are halved during every
+ * find, which keeps the trees almost flat.
+ * <p>
+ * Site indices are not validated. An invalid index fails with the array's own ArrayIndexOutOfBoundsException.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class CompactUnionFind implements UnionFind {
+
+    private final int[] parent;
+    private final int[] size;
+    private int count;
+
+    /**
+     * Initializes n sites, each one in its own component.
+     *
+     * @param n number of sites
+     */
+    CompactUnionFind(int n) {
+        parent = new int[n];
+        size = new int[n];
+        reset();
+    }
+
+    @Override
+    public int find(int p) {
+        while (parent[p] != p) {
+            parent[p] = parent[parent[p]];
+            p = parent[p];
+        }
+        return p;
+    }
+
+    @Override
+    public void union(int p, int q) {
+        int rootP = find(p);
+        int rootQ = find(q);
+        if (rootP == rootQ) {
+            return;
+        }
+
+        if (size[rootP] < size[rootQ]) {
+            parent[rootP] = rootQ;
+            size[rootQ] += size[rootP];
+        } else {
+            parent[rootQ] = rootP;
+            size[rootP] += size[rootQ];
+        }
+        count--;
+    }
+
+    @Override
+    public boolean connected(int p, int q) {
+        return find(p) == find(q);
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        Arrays.fill(size, 1);
+        count = parent.length;
+    }
+
+    @Override
+    public void isolate(int p) {
+        if (parent[p] != p) {
+            parent[p] = p;
+            count++;
+        }
+        size[p] = 1;
+    }
+
+    @Override
+    public int size(int root) {
+        return size[root];
+    }
+
+    /**
+     * @return the parent array itself, for snapshots to read and fill in place
+     */
+    int[] parentArray() {
+        return parent;
+    }
+
+    /**
+     * @return the size array itself, for snapshots to read and fill in place
+     */
+    int[] sizeArray() {
+        return size;
+    }
+
+    /**
+     * Sets the number of components after the arrays have been filled from a snapshot.
+     *
+     * @param count number of components
+     */
+    void restoreCount(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,216 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe percolation system which many threads can open sites of and query at the same time without any lock.
+ * <p>
+ * The open sites live in an AtomicLongArray bit set and are claimed with a compareAndSet, so every site is opened and
+ * counted exactly once. Clusters are joined by a ConcurrentUnionFind. As in Percolation, the root of every cluster
+ * carries a TOP and a BOTTOM flag instead of virtual sites. Flags are only ever added, and whoever adds them to a node
+ * which has meanwhile been linked under another root carries them on to the new root, so the flags of a root always
+ * end up containing the flags of its whole tree.
+ * <p>
+ * Once open() returns, the site is open and connected to all its neighbours that were open at that time, and every
+ * later isFull() and percolates() call observes it. Once isFull() has reported a site full, every later call reports
+ * it full as well.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class ConcurrentPercolation {
+
+    private static final String INVALID_SITES_INPUT = "Sites numbers provided are outside of the prescribed range." +
+                                                      "Valid range spans from 1 to gridSideLength provided";
+
+    private static final String SITES_INPUT_SUB_OR_EQUAL_ZERO = "Number of sites provided as an input is invalid." +
+                                                                "Valid input should be an integer biggen than zero";
+
+    private final ConcurrentUnionFind unionFind;
+    private final AtomicLongArray openSites;
+    private final AtomicIntegerArray flags;
+    private final LongAdder openSitesCount;
+    private final int gridSideLength;
+    private volatile boolean percolates;
+
+    /**
+     * @param n grid side length provided.
+     */
+    public ConcurrentPercolation(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException(SITES_INPUT_SUB_OR_EQUAL_ZERO);
+        }
+        gridSideLength = n;
+        unionFind = new ConcurrentUnionFind(n * n);
+        openSites = new AtomicLongArray(SiteBitSet.wordsFor(n * n));
+        flags = new AtomicIntegerArray(n * n);
+        openSitesCount = new LongAdder();
+    }
+
+    /**
+     * Opens the site provided. Opening a site which is already open has no effect.
+     *
+     * @param row site row index provided
+     * @param col site column index provided
+     */
+    public void open(int row, int col) {
+        validateIndices(row, col);
+        final int site = getSiteIndex(row, col);
+        if (!claim(site)) {
+            return;
+        }
+        openSitesCount.increment();
+
+        addFlags(site, BoundaryFlags.ofRow(row, gridSideLength));
+
+        // a neighbour opened at the same time sees this site's bit or this thread sees its bit, so they always meet
+        if ((col > 1) && isOpenSite(site - 1)) {
+            merge(site, site - 1);
+        }
+        if ((col < gridSideLength) && isOpenSite(site + 1)) {
+            merge(site, site + 1);
+        }
+        if ((row > 1) && isOpenSite(site - gridSideLength)) {
+            merge(site, site - gridSideLength);
+        }
+        if ((row < gridSideLength) && isOpenSite(site + gridSideLength)) {
+            merge(site, site + gridSideLength);
+        }
+    }
+
+    /**
+     * @param row site row index provided
+     * @param col site column index provided
+     *
+     * @return true if site provided is open. otherwise false.
+     */
+    public boolean isOpen(int row, int col) {
+        validateIndices(row, col);
+        return isOpenSite(getSiteIndex(row, col));
+    }
+
+    /**
+     * Checks whether a site is full. i.e. whether the site with the provided coordinates belongs to a cluster which
+     * touches the top row.
+     * <p>
+     * The flags are collected along the whole path to the root, because a root which has just been linked may not
+     * have handed its flags on yet. A concurrent find may halve that path and unlink the node whose TOP flag was
+     * seen before the flag reaches the new root, so a full site is given the TOP flag itself before true is returned.
+     * Flags are never removed, so later calls find it on the site at once and fullness is never lost.
+     *
+     * @param row site row index provided
+     * @param col site column index provided
+     *
+     * @return true if site is full. false otherwise.
+     */
+    public boolean isFull(int row, int col) {
+        validateIndices(row, col);
+        final int site = getSiteIndex(row, col);
+        int node = site;
+        while (true) {
+            if (BoundaryFlags.isFull(flags.get(node))) {
+                if (node != site) {
+                    addFlags(site, BoundaryFlags.TOP);
+                }
+                return true;
+            }
+            final int parent = unionFind.parentOf(node);
+            if (parent == node) {
+                return false;
+            }
+            node = parent;
+        }
+    }
+
+    /**
+     * @return number of open sites
+     */
+    public int numberOfOpenSites() {
+        return openSitesCount.intValue();
+    }
+
+    /**
+     * Checks whether the system percolates or not. i.e. whether a cluster touches both the top and the bottom row.
+     *
+     * @return true if systems percolates. otherwise returns false.
+     */
+    public boolean percolates() {
+        return percolates;
+    }
+
+    /**
+     * Atomically sets the open bit of the site.
+     *
+     * @param site site index
+     *
+     * @return true if this call opened the site. false if it was already open.
+     */
+    private boolean claim(int site) {
+        final int word = site >>> 6;
+        final long mask = 1L << site;
+        while (true) {
+            final long current = openSites.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (openSites.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean isOpenSite(int site) {
+        return (openSites.get(site >>> 6) & (1L << site)) != 0;
+    }
+
+    private void merge(int p, int q) {
+        final int child = unionFind.union(p, q);
+        if (child >= 0) {
+            addFlags(child, flags.get(child));
+        }
+    }
+
+    /**
+     * Adds flags to a node and carries them up to the root of its tree.
+     * <p>
+     * After adding the flags the node is checked again. If it is still a root the flags are in place, and any thread
+     * which links it afterwards reads them. If it has been linked in the meantime the flags are carried to the new
+     * root, and so on.
+     *
+     * @param node     site index
+     * @param newFlags flags to add
+     */
+    private void addFlags(int node, int newFlags) {
+        if (newFlags == 0) {
+            return;
+        }
+        while (true) {
+            int current = flags.get(node);
+            int merged = BoundaryFlags.merge(current, newFlags);
+            while ((merged != current) && !flags.compareAndSet(node, current, merged)) {
+                current = flags.get(node);
+                merged = BoundaryFlags.merge(current, newFlags);
+            }
+            if (BoundaryFlags.spans(merged)) {
+                percolates = true;
+            }
+            final int parent = unionFind.parentOf(node);
+            if (parent == node) {
+                return;
+            }
+            newFlags |= current;
+            node = unionFind.find(parent);
+        }
+    }
+
+    private void validateIndices(int row, int col) {
+        if ((row < 1) || (col < 1) || (row > gridSideLength) || (col > gridSideLength)) {
+            throw new IllegalArgumentException(INVALID_SITES_INPUT);
+        }
+    }
+
+    private int getSiteIndex(int row, int col) {
+        return (gridSideLength * (row - 1)) + col - 1;
+    }
+}
@@ -0,0 +1,119 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free union find in the style of Anderson-Woll and Jayanti-Tarjan.
+ * <p>
+ * Every parent pointer is changed only by compareAndSet. A root is linked under another root only if it is still a
+ * root, and finds halve paths with a compareAndSet whose failure is simply ignored because another thread has already
+ * shortened the path. Roots are linked by a fixed random priority, a bijective hash of the site index, which keeps the
+ * trees shallow without any shared rank or size counters.
+ * <p>
+ * Site indices are not validated.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class ConcurrentUnionFind {
+
+    private final AtomicIntegerArray parent;
+
+    /**
+     * Initializes n sites, each one in its own component.
+     *
+     * @param n number of sites
+     */
+    ConcurrentUnionFind(int n) {
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+        }
+    }
+
+    /**
+     * @param p site index
+     *
+     * @return the canonical site of the component containing p at some moment during the call
+     */
+    int find(int p) {
+        while (true) {
+            final int q = parent.get(p);
+            if (q == p) {
+                return p;
+            }
+            final int r = parent.get(q);
+            if (r == q) {
+                return q;
+            }
+            parent.compareAndSet(p, q, r);
+            p = r;
+        }
+    }
+
+    /**
+     * @param p site index
+     *
+     * @return the parent of p, which is p itself if p is a root
+     */
+    int parentOf(int p) {
+        return parent.get(p);
+    }
+
+    /**
+     * Merges the component containing p with the component containing q.
+     *
+     * @param p site index
+     * @param q site index
+     *
+     * @return the root which was linked under another root, or -1 if p and q were already connected
+     */
+    int union(int p, int q) {
+        while (true) {
+            final int rootP = find(p);
+            final int rootQ = find(q);
+            if (rootP == rootQ) {
+                return -1;
+            }
+            final boolean pIsLower = priority(rootP) < priority(rootQ);
+            final int child = pIsLower ? rootP : rootQ;
+            final int root = pIsLower ? rootQ : rootP;
+            if (parent.compareAndSet(child, child, root)) {
+                return child;
+            }
+            // the child stopped being a root in the meantime. Retry from the new roots.
+        }
+    }
+
+    /**
+     * @param p site index
+     * @param q site index
+     *
+     * @return true if p and q were in the same component at some moment during the call. false otherwise.
+     */
+    boolean connected(int p, int q) {
+        while (true) {
+            p = find(p);
+            q = find(q);
+            if (p == q) {
+                return true;
+            }
+            // p was a root that differs from q's root. If it still is, p and q were apart when q's root was read.
+            if (parent.get(p) == p) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Bijective mix of the site index (the murmur3 finaliser), used as the linking priority.
+     */
+    private static int priority(int site) {
+        int h = site;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,137 @@
+package com.kap.algorithmspartone.percolation;
+
+import edu.princeton.cs.algs4.In;
+
+/**
+ * Undirected graph in compressed sparse row form. The neighbours of vertex v are targets[offsets[v]] to
+ * targets[offsets[v + 1] - 1], so the whole adjacency structure is two int arrays: 4 (V + 1) + 8 E bytes, with no
+ * boxed lists, which lets graphs with tens of millions of edges load into a plain heap.
+ * <p>
+ * Every edge is stored once in each direction. Self loops and parallel edges are kept as given.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class CsrGraph {
+
+    private static final String INVALID_VERTEX_COUNT = "Number of vertices provided is invalid. Valid input should " +
+                                                       "be an integer bigger than zero";
+
+    private static final String INVALID_EDGE_COUNT = "Number of edges provided is invalid. Valid input should be " +
+                                                     "a non negative integer below 2^30";
+
+    private static final String ENDPOINTS_DIFFER = "Edge endpoints provided have different lengths.";
+
+    private static final String INVALID_VERTEX = "Vertex provided is outside of the range 0 to V - 1.";
+
+    private static final int MAX_EDGES = 1 << 30;
+
+    private final int[] offsets;
+    private final int[] targets;
+
+    private CsrGraph(int[] offsets, int[] targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * Builds the graph from an edge list with a counting sort on the endpoints: one pass counts the degrees, a prefix
+     * sum turns them into offsets and a second pass drops every endpoint into place.
+     *
+     * @param vertices number of vertices
+     * @param from     first endpoint of every edge, 0 to vertices - 1
+     * @param to       second endpoint of every edge, 0 to vertices - 1
+     *
+     * @return the graph
+     */
+    public static CsrGraph fromEdges(int vertices, int[] from, int[] to) {
+        if (vertices <= 0) {
+            throw new IllegalArgumentException(INVALID_VERTEX_COUNT);
+        }
+        if (from.length != to.length) {
+            throw new IllegalArgumentException(ENDPOINTS_DIFFER);
+        }
+        if (from.length >= MAX_EDGES) {
+            throw new IllegalArgumentException(INVALID_EDGE_COUNT);
+        }
+
+        final int[] offsets = new int[vertices + 1];
+        for (int e = 0; e < from.length; e++) {
+            validateVertex(from[e], vertices);
+            validateVertex(to[e], vertices);
+            offsets[from[e] + 1]++;
+            offsets[to[e] + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        final int[] next = new int[vertices];
+        System.arraycopy(offsets, 0, next, 0, vertices);
+        final int[] targets = new int[2 * from.length];
+        for (int e = 0; e < from.length; e++) {
+            targets[next[from[e]]++] = to[e];
+            targets[next[to[e]]++] = from[e];
+        }
+        return new CsrGraph(offsets, targets);
+    }
+
+    /**
+     * Reads a graph in the algs4 format: the number of vertices, the number of edges, then the endpoint pairs.
+     *
+     * @param in input holding the graph
+     *
+     * @return the graph
+     */
+    public static CsrGraph read(In in) {
+        final int vertices = in.readInt();
+        final int edges = in.readInt();
+        if ((edges < 0) || (edges >= MAX_EDGES)) {
+            throw new IllegalArgumentException(INVALID_EDGE_COUNT);
+        }
+        final int[] from = new int[edges];
+        final int[] to = new int[edges];
+        for (int e = 0; e < edges; e++) {
+            from[e] = in.readInt();
+            to[e] = in.readInt();
+        }
+        return fromEdges(vertices, from, to);
+    }
+
+    /**
+     * @return number of vertices
+     */
+    public int vertices() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @return number of edges
+     */
+    public int edges() {
+        return targets.length / 2;
+    }
+
+    /**
+     * @param v vertex
+     *
+     * @return number of edge endpoints at v
+     */
+    public int degree(int v) {
+        validateVertex(v, vertices());
+        return offsets[v + 1] - offsets[v];
+    }
+
+    int[] offsets() {
+        return offsets;
+    }
+
+    int[] targets() {
+        return targets;
+    }
+
+    static void validateVertex(int v, int vertices) {
+        if ((v < 0) || (v >= vertices)) {
+            throw new IllegalArgumentException(INVALID_VERTEX);
+        }
+    }
+}
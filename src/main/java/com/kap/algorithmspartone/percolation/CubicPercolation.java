@@ -0,0 +1,83 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Site percolation on an n-by-n-by-n simple cubic lattice, each site joined to its 6 face neighbours. Sites are
+ * addressed by layer, row and column; the system percolates when an open path joins layer 1 to layer n.
+ *
+ * @author Konstantinos Antoniou
+ */
+public final class CubicPercolation extends LatticePercolation {
+
+    private final int sideLength;
+    private final int layerSize;
+
+    /**
+     * @param n side length of the cube
+     */
+    public CubicPercolation(int n) {
+        super((n <= 0) ? 0 : ((long) n * n * n));
+        sideLength = n;
+        layerSize = n * n;
+    }
+
+    /**
+     * Opens the site provided. Opening a site which is already open has no effect.
+     *
+     * @param layer site layer index provided, 1 to n
+     * @param row   site row index provided, 1 to n
+     * @param col   site column index provided, 1 to n
+     */
+    public void open(int layer, int row, int col) {
+        final int site = index(layer, row, col);
+        if (!openSite(site, BoundaryFlags.ofRow(layer, sideLength))) {
+            return;
+        }
+        if (col > 1) {
+            joinIfOpen(site, site - 1);
+        }
+        if (col < sideLength) {
+            joinIfOpen(site, site + 1);
+        }
+        if (row > 1) {
+            joinIfOpen(site, site - sideLength);
+        }
+        if (row < sideLength) {
+            joinIfOpen(site, site + sideLength);
+        }
+        if (layer > 1) {
+            joinIfOpen(site, site - layerSize);
+        }
+        if (layer < sideLength) {
+            joinIfOpen(site, site + layerSize);
+        }
+    }
+
+    /**
+     * @param layer site layer index provided, 1 to n
+     * @param row   site row index provided, 1 to n
+     * @param col   site column index provided, 1 to n
+     *
+     * @return true if site provided is open. otherwise false.
+     */
+    public boolean isOpen(int layer, int row, int col) {
+        return isOpenSite(index(layer, row, col));
+    }
+
+    /**
+     * @param layer site layer index provided, 1 to n
+     * @param row   site row index provided, 1 to n
+     * @param col   site column index provided, 1 to n
+     *
+     * @return true if the site belongs to an open cluster which touches layer 1. false otherwise.
+     */
+    public boolean isFull(int layer, int row, int col) {
+        return isFullSite(index(layer, row, col));
+    }
+
+    private int index(int layer, int row, int col) {
+        validate(layer, sideLength);
+        validate(row, sideLength);
+        validate(col, sideLength);
+        return (layerSize * (layer - 1)) + (sideLength * (row - 1)) + col - 1;
+    }
+}
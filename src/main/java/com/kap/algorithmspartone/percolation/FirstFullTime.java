@@ -0,0 +1,208 @@
+package com.kap.algorithmspartone.percolation;
+
+import edu.princeton.cs.algs4.In;
+import edu.princeton.cs.algs4.StdOut;
+
+/**
+ * Computes, for a given order of site openings, the step at which every site first becomes full and the step at
+ * which the system first percolates. Step k is the state after the k-th opening, counted from 1; opening a site which
+ * is already open still takes a step.
+ * <p>
+ * Asking Percolation.isFull of every site after every opening costs O(n^2) per step. Here every cluster keeps its
+ * sites on a circular linked list threaded through one int array. Two circular lists are joined in O(1) by swapping
+ * the successors of one site from each, and a site has its time set only when its cluster first joins a full one, so
+ * every site is visited once. For k openings the whole pass costs O(n^2 + k) union find operations.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class FirstFullTime {
+
+    /**
+     * Time of a site which never becomes full, or of a system which never percolates.
+     */
+    public static final int NEVER = 0;
+
+    private static final String INVALID_SITES_INPUT = "Sites numbers provided are outside of the prescribed range." +
+                                                      "Valid range spans from 1 to gridSideLength provided";
+
+    private static final String SITES_INPUT_SUB_OR_EQUAL_ZERO = "Number of sites provided as an input is invalid." +
+                                                                "Valid input should be an integer biggen than zero";
+
+    private static final String ROWS_AND_COLUMNS_DIFFER = "Rows and columns provided have different lengths.";
+
+    // kept next to the boundary flags
+    private static final byte OPEN = 4;
+
+    private final int gridSideLength;
+    private final int[] fullTimes;
+    private final int percolationStep;
+
+    // only used while the times are computed
+    private CompactUnionFind unionFind;
+    private int[] next;
+    private byte[] flags;
+
+    /**
+     * Computes the times for the sites opened in the order provided.
+     *
+     * @param n    grid side length provided.
+     * @param rows row index of the site opened at every step
+     * @param cols column index of the site opened at every step
+     */
+    public FirstFullTime(int n, int[] rows, int[] cols) {
+        if (n <= 0) {
+            throw new IllegalArgumentException(SITES_INPUT_SUB_OR_EQUAL_ZERO);
+        }
+        if (rows.length != cols.length) {
+            throw new IllegalArgumentException(ROWS_AND_COLUMNS_DIFFER);
+        }
+        for (int i = 0; i < rows.length; i++) {
+            if ((rows[i] < 1) || (cols[i] < 1) || (rows[i] > n) || (cols[i] > n)) {
+                throw new IllegalArgumentException(INVALID_SITES_INPUT);
+            }
+        }
+        gridSideLength = n;
+        fullTimes = new int[n * n];
+        unionFind = new CompactUnionFind(n * n);
+        next = new int[n * n];
+        for (int i = 0; i < next.length; i++) {
+            next[i] = i;
+        }
+        flags = new byte[n * n];
+
+        int percolatedAt = NEVER;
+        for (int step = 1; step <= rows.length; step++) {
+            if (open(rows[step - 1], cols[step - 1], step) && (percolatedAt == NEVER)) {
+                percolatedAt = step;
+            }
+        }
+        percolationStep = percolatedAt;
+        unionFind = null;
+        next = null;
+        flags = null;
+    }
+
+    /**
+     * Reads a grid side length followed by row and column pairs, the format of the input*.txt files read by
+     * PercolationVisualizer, and computes the times for that order.
+     *
+     * @param in input holding the opening order
+     *
+     * @return the times
+     */
+    public static FirstFullTime read(In in) {
+        final SiteOpeningLog log = SiteOpeningLog.read(in);
+        return new FirstFullTime(log.gridSideLength(), log.rows(), log.cols());
+    }
+
+    /**
+     * Opens a site at the step provided and updates the times of every site which becomes full.
+     *
+     * @return true if the cluster of the site touches both the top and the bottom row
+     */
+    private boolean open(int row, int col, int step) {
+        final int site = (gridSideLength * (row - 1)) + col - 1;
+        if ((flags[site] & OPEN) != 0) {
+            return false;
+        }
+        flags[site] = (byte) (OPEN | BoundaryFlags.ofRow(row, gridSideLength));
+        if (row == 1) {
+            fullTimes[site] = step;
+        }
+
+        if (col > 1) {
+            join(site, site - 1, step);
+        }
+        if (col < gridSideLength) {
+            join(site, site + 1, step);
+        }
+        if (row > 1) {
+            join(site, site - gridSideLength, step);
+        }
+        if (row < gridSideLength) {
+            join(site, site + gridSideLength, step);
+        }
+        return BoundaryFlags.spans(flags[unionFind.find(site)]);
+    }
+
+    private void join(int site, int neighbour, int step) {
+        if ((flags[neighbour] & OPEN) == 0) {
+            return;
+        }
+        final int rootP = unionFind.find(site);
+        final int rootQ = unionFind.find(neighbour);
+        if (rootP == rootQ) {
+            return;
+        }
+        final boolean fullP = BoundaryFlags.isFull(flags[rootP]);
+        final boolean fullQ = BoundaryFlags.isFull(flags[rootQ]);
+        if (fullP && !fullQ) {
+            fill(rootQ, step);
+        } else if (fullQ && !fullP) {
+            fill(rootP, step);
+        }
+
+        // swapping one successor in each circular list splices them into one
+        final int swap = next[rootP];
+        next[rootP] = next[rootQ];
+        next[rootQ] = swap;
+
+        final byte merged = BoundaryFlags.merge(flags[rootP], flags[rootQ]);
+        unionFind.union(rootP, rootQ);
+        flags[unionFind.find(rootP)] = merged;
+    }
+
+    private void fill(int root, int step) {
+        int site = root;
+        do {
+            fullTimes[site] = step;
+            site = next[site];
+        } while (site != root);
+    }
+
+    /**
+     * @return the step at which every site first became full, in row major order, or NEVER. The array is the one
+     * held by this object, not a copy.
+     */
+    public int[] fullTimes() {
+        return fullTimes;
+    }
+
+    /**
+     * @param row site row index provided
+     * @param col site column index provided
+     *
+     * @return the step at which the site first became full, or NEVER
+     */
+    public int fullTime(int row, int col) {
+        if ((row < 1) || (col < 1) || (row > gridSideLength) || (col > gridSideLength)) {
+            throw new IllegalArgumentException(INVALID_SITES_INPUT);
+        }
+        return fullTimes[(gridSideLength * (row - 1)) + col - 1];
+    }
+
+    /**
+     * @return the step at which the system first percolated, or NEVER
+     */
+    public int percolationStep() {
+        return percolationStep;
+    }
+
+    /**
+     * Test client. Takes the name of an input file in the format read by PercolationVisualizer and prints the step at
+     * which the system percolated and how many sites were full by the end.
+     *
+     * @param args arguments array
+     */
+    public static void main(String[] args) {
+        FirstFullTime firstFullTime = read(new In(args[0]));
+        int full = 0;
+        for (int time : firstFullTime.fullTimes()) {
+            if (time != NEVER) {
+                full++;
+            }
+        }
+        StdOut.println("Percolation step : " + firstFullTime.percolationStep());
+        StdOut.println("Full sites       : " + full);
+    }
+}
@@ -0,0 +1,72 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Site percolation on an arbitrary graph held in compressed sparse row form. The vertices are the sites; a set of
+ * source vertices takes the place of the top row and a set of sink vertices the place of the bottom row. The system
+ * percolates when an open path joins a source to a sink, and a vertex is full when an open path joins it to a source.
+ * <p>
+ * Opening a vertex walks its slice of the targets array, so the kernel is a tight loop over ints whatever the degree.
+ *
+ * @author Konstantinos Antoniou
+ */
+public final class GraphPercolation extends LatticePercolation {
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final byte[] boundary;
+
+    /**
+     * @param graph   graph whose vertices are the sites
+     * @param sources source vertices
+     * @param sinks   sink vertices
+     */
+    public GraphPercolation(CsrGraph graph, int[] sources, int[] sinks) {
+        super(graph.vertices());
+        offsets = graph.offsets();
+        targets = graph.targets();
+        boundary = new byte[graph.vertices()];
+        for (int source : sources) {
+            CsrGraph.validateVertex(source, boundary.length);
+            boundary[source] |= BoundaryFlags.TOP;
+        }
+        for (int sink : sinks) {
+            CsrGraph.validateVertex(sink, boundary.length);
+            boundary[sink] |= BoundaryFlags.BOTTOM;
+        }
+    }
+
+    /**
+     * Opens the vertex provided. Opening a vertex which is already open has no effect.
+     *
+     * @param v vertex
+     */
+    public void open(int v) {
+        CsrGraph.validateVertex(v, boundary.length);
+        if (!openSite(v, boundary[v])) {
+            return;
+        }
+        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+            joinIfOpen(v, targets[i]);
+        }
+    }
+
+    /**
+     * @param v vertex
+     *
+     * @return true if vertex provided is open. otherwise false.
+     */
+    public boolean isOpen(int v) {
+        CsrGraph.validateVertex(v, boundary.length);
+        return isOpenSite(v);
+    }
+
+    /**
+     * @param v vertex
+     *
+     * @return true if the vertex belongs to an open cluster which holds a source. false otherwise.
+     */
+    public boolean isFull(int v) {
+        CsrGraph.validateVertex(v, boundary.length);
+        return isFullSite(v);
+    }
+}
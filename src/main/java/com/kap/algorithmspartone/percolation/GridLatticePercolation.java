@@ -0,0 +1,94 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Percolation system on a lattice whose sites are addressed by the row and column of an m-by-n grid, stored in row
+ * major order. Row 1 is the top boundary and row m the bottom one.
+ * <p>
+ * This class holds what those topologies share: the coordinate mapping and the isOpen and isFull queries. Each
+ * topology only implements open, joining the new site to its own neighbours.
+ *
+ * @author Konstantinos Antoniou
+ */
+public abstract class GridLatticePercolation extends LatticePercolation {
+
+    private final int rows;
+    private final int cols;
+
+    /**
+     * @param m number of rows
+     * @param n number of columns
+     */
+    GridLatticePercolation(int m, int n) {
+        super(((m <= 0) || (n <= 0)) ? 0 : ((long) m * n));
+        rows = m;
+        cols = n;
+    }
+
+    /**
+     * Opens the site provided. Opening a site which is already open has no effect.
+     *
+     * @param row site row index provided, 1 to m
+     * @param col site column index provided, 1 to n
+     */
+    public abstract void open(int row, int col);
+
+    /**
+     * @param row site row index provided, 1 to m
+     * @param col site column index provided, 1 to n
+     *
+     * @return true if site provided is open. otherwise false.
+     */
+    public final boolean isOpen(int row, int col) {
+        return isOpenSite(index(row, col));
+    }
+
+    /**
+     * @param row site row index provided, 1 to m
+     * @param col site column index provided, 1 to n
+     *
+     * @return true if the site belongs to an open cluster which touches row 1. false otherwise.
+     */
+    public final boolean isFull(int row, int col) {
+        return isFullSite(index(row, col));
+    }
+
+    /**
+     * @return number of rows
+     */
+    public final int rows() {
+        return rows;
+    }
+
+    /**
+     * @return number of columns
+     */
+    public final int cols() {
+        return cols;
+    }
+
+    /**
+     * Opens a site as a cluster of its own, flagged as its row requires. Its neighbours are joined by the caller.
+     *
+     * @param site site index
+     * @param row  site row index, 1 to m
+     *
+     * @return false if the site was already open
+     */
+    final boolean openSiteInRow(int site, int row) {
+        return openSite(site, BoundaryFlags.ofRow(row, rows));
+    }
+
+    /**
+     * Validates the coordinates provided and maps them to a site index.
+     *
+     * @param row site row index provided, 1 to m
+     * @param col site column index provided, 1 to n
+     *
+     * @return site index
+     */
+    final int index(int row, int col) {
+        validate(row, rows);
+        validate(col, cols);
+        return (cols * (row - 1)) + col - 1;
+    }
+}
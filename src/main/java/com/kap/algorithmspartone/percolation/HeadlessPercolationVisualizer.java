@@ -0,0 +1,66 @@
+package com.kap.algorithmspartone.percolation;
+
+/******************************************************************************
+ *  Compilation:  javac com.kap.algorithmspartone.percolation.HeadlessPercolationVisualizer.java
+ *  Execution:    java com.kap.algorithmspartone.percolation.HeadlessPercolationVisualizer input.txt output.png
+ *                     [cellSize] [frameEvery]
+ *  Dependencies: com.kap.algorithmspartone.percolation.Percolation.java
+ *                com.kap.algorithmspartone.percolation.RasterPercolationRenderer.java In.java
+ *
+ *  This program takes the name of an input file in the format read by
+ *  PercolationVisualizer and the name of a PNG file as command-line arguments.
+ *  It replays the sites of the input file without opening any window and
+ *  writes the final state of the system to the PNG file.
+ *
+ *  If frameEvery is given, it also writes a frame every frameEvery opened
+ *  sites, next to the output file and numbered by step.
+ *
+ ******************************************************************************/
+
+import java.io.File;
+import java.io.IOException;
+
+import edu.princeton.cs.algs4.In;
+import edu.princeton.cs.algs4.StdOut;
+
+public class HeadlessPercolationVisualizer {
+
+    // default width and height of a cell in pixels
+    private static final int CELL_SIZE = 10;
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        In in = new In(args[0]);      // input file
+        File output = new File(args[1]);
+        int cellSize = (args.length > 2) ? Integer.parseInt(args[2]) : CELL_SIZE;
+        int frameEvery = (args.length > 3) ? Integer.parseInt(args[3]) : 0;
+        int n = in.readInt();         // n-by-n percolation system
+
+        Percolation perc = new Percolation(n);
+        RasterPercolationRenderer renderer = new RasterPercolationRenderer(n, cellSize);
+        int step = 0;
+        while (!in.isEmpty()) {
+            int i = in.readInt();
+            int j = in.readInt();
+            perc.open(i, j);
+            renderer.opened(perc, i, j);
+            step++;
+            if ((frameEvery > 0) && ((step % frameEvery) == 0)) {
+                renderer.writePng(frameFile(output, step));
+            }
+        }
+        renderer.writePng(output);
+
+        StdOut.println(renderer.openSites() + " open sites, "
+                       + (perc.percolates() ? "percolates" : "does not percolate"));
+    }
+
+    // output.png -> output-000042.png
+    private static File frameFile(File output, int step) {
+        String name = output.getName();
+        int dot = name.lastIndexOf('.');
+        String base = (dot < 0) ? name : name.substring(0, dot);
+        return new File(output.getAbsoluteFile().getParentFile(), String.format("%s-%06d.png", base, step));
+    }
+}
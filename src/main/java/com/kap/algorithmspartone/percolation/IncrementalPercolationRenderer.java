@@ -0,0 +1,116 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Renderer which repaints only the cells of a percolation system whose state changed since they were last painted.
+ * <p>
+ * Opening a site changes the state of that site and, if the site is full afterwards, turns every open site of its
+ * cluster which was not full yet into a full site. Those are found by a flood fill from the new site which stops at
+ * sites already painted full, so over a whole replay every cell is painted at most twice and isFull() is called once
+ * per open instead of once per cell per frame.
+ *
+ * @author Konstantinos Antoniou
+ */
+public abstract class IncrementalPercolationRenderer {
+
+    /**
+     * State of a blocked site.
+     */
+    protected static final byte BLOCKED = 0;
+
+    /**
+     * State of an open site which is not full.
+     */
+    protected static final byte OPEN = 1;
+
+    /**
+     * State of a full site.
+     */
+    protected static final byte FULL = 2;
+
+    private final int gridSideLength;
+    private final byte[] painted;
+    private final int[] pending;
+    private int openSites;
+
+    /**
+     * @param n grid side length of the percolation systems rendered
+     */
+    protected IncrementalPercolationRenderer(int n) {
+        gridSideLength = n;
+        painted = new byte[n * n];
+        pending = new int[n * n];
+    }
+
+    /**
+     * Repaints the cells which changed when the site provided was opened.
+     *
+     * @param perc percolation system, after the site was opened
+     * @param row  row of the opened site
+     * @param col  column of the opened site
+     */
+    public void opened(Percolation perc, int row, int col) {
+        final int site = (gridSideLength * (row - 1)) + col - 1;
+        if ((painted[site] != BLOCKED) || !perc.isOpen(row, col)) {
+            return;
+        }
+        openSites++;
+
+        if (!perc.isFull(row, col)) {
+            paint(site, OPEN);
+            return;
+        }
+
+        int top = 0;
+        paint(site, FULL);
+        pending[top++] = site;
+        while (top > 0) {
+            final int current = pending[--top];
+            final int r = current / gridSideLength;
+            final int c = current % gridSideLength;
+            if ((c > 0) && (painted[current - 1] == OPEN)) {
+                paint(current - 1, FULL);
+                pending[top++] = current - 1;
+            }
+            if ((c < gridSideLength - 1) && (painted[current + 1] == OPEN)) {
+                paint(current + 1, FULL);
+                pending[top++] = current + 1;
+            }
+            if ((r > 0) && (painted[current - gridSideLength] == OPEN)) {
+                paint(current - gridSideLength, FULL);
+                pending[top++] = current - gridSideLength;
+            }
+            if ((r < gridSideLength - 1) && (painted[current + gridSideLength] == OPEN)) {
+                paint(current + gridSideLength, FULL);
+                pending[top++] = current + gridSideLength;
+            }
+        }
+    }
+
+    /**
+     * @return number of open sites painted so far
+     */
+    public int openSites() {
+        return openSites;
+    }
+
+    /**
+     * @return grid side length of the percolation systems rendered
+     */
+    protected int gridSideLength() {
+        return gridSideLength;
+    }
+
+    private void paint(int site, byte state) {
+        painted[site] = state;
+        paintCell((site / gridSideLength) + 1, (site % gridSideLength) + 1, state);
+    }
+
+    /**
+     * Paints a single cell.
+     *
+     * @param row   site row index
+     * @param col   site column index
+     * @param state OPEN or FULL
+     */
+    protected abstract void paintCell(int row, int col, byte state);
+}
@@ -0,0 +1,49 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.util.Arrays;
+
+/**
+ * Growable stack of ints, used as an undo journal and as the work list of flood fills. Popping an empty stack fails
+ * with the array's own ArrayIndexOutOfBoundsException.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class IntStack {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] items = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void push(int item) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, 2 * size);
+        }
+        items[size++] = item;
+    }
+
+    int pop() {
+        return items[--size];
+    }
+
+    /**
+     * @param index position from the bottom of the stack, 0 to size - 1
+     *
+     * @return item at that position
+     */
+    int get(int index) {
+        return items[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -30,6 +30,7 @@ public class InteractivePercolationVisualizer {
 
         StdDraw.enableDoubleBuffering();
         Percolation perc = new Percolation(n);
+        PercolationVisualizer.StdDrawRenderer renderer = new PercolationVisualizer.StdDrawRenderer(n);
         PercolationVisualizer.draw(perc, n);
         StdDraw.show();
 
@@ -52,10 +53,11 @@ public class InteractivePercolationVisualizer {
                         StdOut.println(i + " " + j);
                     }
                     perc.open(i, j);
+                    renderer.opened(perc, i, j);
                 }
 
-                // draw n-by-n percolation system
-                PercolationVisualizer.draw(perc, n);
+                // draw the squares of the n-by-n percolation system that changed
+                PercolationVisualizer.drawStatus(perc, n, renderer.openSites());
                 StdDraw.show();
             }
 
@@ -0,0 +1,134 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Percolation system on a lattice, or any other graph, other than the square n-by-n grid of Percolation.
+ * <p>
+ * This class holds what every lattice shares: the open sites and clusters, kept by the same SiteClusters kernel as
+ * Percolation over a compact union find, with flags on the root of every cluster telling whether it touches the top
+ * and the bottom boundary. Each topology is a final subclass which maps its coordinates to site indices and joins a
+ * newly opened site to its neighbours with its own unrolled neighbour arithmetic. Topologies whose sites are
+ * addressed by row and column extend GridLatticePercolation, which holds their shared coordinate mapping and isOpen
+ * and isFull queries. The square grid Percolation has its own coordinate mapping and API but opens and joins its
+ * sites through the same kernel.
+ *
+ * @author Konstantinos Antoniou
+ */
+public abstract class LatticePercolation {
+
+    static final String INVALID_SITES_INPUT = "Sites numbers provided are outside of the prescribed range." +
+                                              "Valid range spans from 1 to the side length provided";
+
+    static final String INVALID_CLUSTER_SIZE = "Cluster size provided is outside of the range 1 to the number of " +
+                                               "sites.";
+
+    static final String INVALID_GRID_SIZE = "Side lengths provided are invalid. Valid input should be integers " +
+                                            "bigger than zero whose product fits in an int";
+
+    private final SiteClusters clusters;
+
+    /**
+     * @param sites number of sites of the lattice, as computed by the subclass in long arithmetic
+     */
+    LatticePercolation(long sites) {
+        if ((sites <= 0) || (sites > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException(INVALID_GRID_SIZE);
+        }
+        clusters = new SiteClusters(new CompactUnionFind((int) sites), (int) sites);
+    }
+
+    /**
+     * Opens a site as a cluster of its own. Its neighbours are joined by the caller.
+     *
+     * @param site  site index
+     * @param flags boundaries the site lies on
+     *
+     * @return false if the site was already open
+     */
+    final boolean openSite(int site, byte flags) {
+        return clusters.open(site, flags);
+    }
+
+    /**
+     * Joins an open site to a neighbour if the neighbour is open.
+     *
+     * @param site      index of an open site
+     * @param neighbour index of a neighbouring site
+     */
+    final void joinIfOpen(int site, int neighbour) {
+        clusters.joinIfOpen(site, neighbour);
+    }
+
+    /**
+     * Joins the clusters of two open sites.
+     *
+     * @param p index of an open site
+     * @param q index of an open site
+     */
+    final void join(int p, int q) {
+        clusters.join(p, q);
+    }
+
+    final boolean isOpenSite(int site) {
+        return clusters.isOpen(site);
+    }
+
+    final boolean isFullSite(int site) {
+        return clusters.isFull(site);
+    }
+
+    /**
+     * @return number of sites of the lattice
+     */
+    public final int sites() {
+        return clusters.rootFlags.length;
+    }
+
+    /**
+     * @return number of open sites
+     */
+    public final int numberOfOpenSites() {
+        return clusters.openSitesCount;
+    }
+
+    /**
+     * @return number of open clusters
+     */
+    public final int clusterCount() {
+        return clusters.clusterCount;
+    }
+
+    /**
+     * @return number of sites in the largest open cluster. 0 if no site is open.
+     */
+    public final int largestClusterSize() {
+        return clusters.largestClusterSize;
+    }
+
+    /**
+     * @param size cluster size
+     *
+     * @return number of open clusters with exactly that many sites
+     */
+    public final int clusterCountOfSize(int size) {
+        if ((size < 1) || (size > sites())) {
+            throw new IllegalArgumentException(INVALID_CLUSTER_SIZE);
+        }
+        return clusters.sizeCounts.count(size);
+    }
+
+    /**
+     * Checks whether the system percolates or not. i.e. whether a cluster touches both the top and the bottom
+     * boundary.
+     *
+     * @return true if systems percolates. otherwise returns false.
+     */
+    public final boolean percolates() {
+        return clusters.percolates;
+    }
+
+    static void validate(int index, int sideLength) {
+        if ((index < 1) || (index > sideLength)) {
+            throw new IllegalArgumentException(INVALID_SITES_INPUT);
+        }
+    }
+}
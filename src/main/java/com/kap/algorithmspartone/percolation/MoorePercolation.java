@@ -0,0 +1,63 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Site percolation on a rectangular grid of m rows and n columns, each site joined to its 8 neighbours: the 4
+ * horizontal and vertical ones and the 4 diagonal ones (the Moore neighbourhood). The system percolates when an open
+ * path joins row 1 to row m.
+ *
+ * @author Konstantinos Antoniou
+ */
+public final class MoorePercolation extends GridLatticePercolation {
+
+    /**
+     * @param m number of rows
+     * @param n number of columns
+     */
+    public MoorePercolation(int m, int n) {
+        super(m, n);
+    }
+
+    /**
+     * Opens the site provided. Opening a site which is already open has no effect.
+     *
+     * @param row site row index provided, 1 to m
+     * @param col site column index provided, 1 to n
+     */
+    @Override
+    public void open(int row, int col) {
+        final int site = index(row, col);
+        if (!openSiteInRow(site, row)) {
+            return;
+        }
+        final int rows = rows();
+        final int cols = cols();
+        final boolean left = col > 1;
+        final boolean right = col < cols;
+        if (left) {
+            joinIfOpen(site, site - 1);
+        }
+        if (right) {
+            joinIfOpen(site, site + 1);
+        }
+        if (row > 1) {
+            final int above = site - cols;
+            joinIfOpen(site, above);
+            if (left) {
+                joinIfOpen(site, above - 1);
+            }
+            if (right) {
+                joinIfOpen(site, above + 1);
+            }
+        }
+        if (row < rows) {
+            final int below = site + cols;
+            joinIfOpen(site, below);
+            if (left) {
+                joinIfOpen(site, below - 1);
+            }
+            if (right) {
+                joinIfOpen(site, below + 1);
+            }
+        }
+    }
+}
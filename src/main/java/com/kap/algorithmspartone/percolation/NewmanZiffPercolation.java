@@ -0,0 +1,242 @@
+package com.kap.algorithmspartone.percolation;
+
+import edu.princeton.cs.algs4.StdOut;
+import edu.princeton.cs.algs4.StdRandom;
+
+
+/**
+ * Newman-Ziff percolation engine.
+ * <p>
+ * Every trial opens all n^2 sites of the grid in a random order, exactly like a Percolation driven by
+ * TrialStrategy.SHUFFLED_SITES, and records after each opening whether the system spans from top to bottom and the
+ * size of the largest cluster. Averaged over the trials these give the microcanonical observables Q(k) for k open
+ * sites. The canonical observable at occupation probability p is the binomial convolution
+ * <p>
+ * Q(p) = sum over k of C(N, k) * p^k * (1 - p)^(N - k) * Q(k)
+ * <p>
+ * so a single O(n^2) pass per trial yields the whole curve, for any number of p values. Both observables are read in
+ * O(1) from the cluster statistics Percolation keeps up to date on every open.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class NewmanZiffPercolation {
+
+    private static final String INVALID_CONSTRUCTOR_INPUTS = "Invalid constructor inputs.";
+    private static final String INVALID_PROBABILITY = "Probability provided is outside of the range 0 to 1.";
+    private static final String INVALID_OPEN_SITES = "Number of open sites provided is outside of the range 0 to n^2.";
+
+    // binomial weights below this fraction of the weight at the mode do not change a double sum
+    private static final double NEGLIGIBLE_WEIGHT = 1e-17;
+
+    private final int gridSideLength;
+    private final int sites;
+    private final double[] spanning;
+    private final double[] largestClusterFraction;
+
+    /**
+     * Runs the given number of full sweeps over an n-by-n grid.
+     *
+     * @param n      size of the grid
+     * @param trials number of trials
+     * @param seed   experiment seed
+     */
+    public NewmanZiffPercolation(int n, int trials, long seed) {
+        this(n, trials, seed, RandomSourceType.SPLIT_MIX);
+    }
+
+    /**
+     * Runs the given number of full sweeps over an n-by-n grid, drawing the site order from the given generator.
+     *
+     * @param n                size of the grid
+     * @param trials           number of trials
+     * @param seed             experiment seed
+     * @param randomSourceType generator the sweeps draw their site order from
+     */
+    public NewmanZiffPercolation(int n, int trials, long seed, RandomSourceType randomSourceType) {
+        if ((n <= 0) || (trials <= 0) || (randomSourceType == null)) {
+            throw new IllegalArgumentException(INVALID_CONSTRUCTOR_INPUTS);
+        }
+        gridSideLength = n;
+        sites = n * n;
+        spanning = new double[sites + 1];
+        largestClusterFraction = new double[sites + 1];
+
+        final RandomSource master = new SplitMixRandomSource(seed);
+        final RandomSource random = randomSourceType.create(0L);
+        final int[] order = new int[sites];
+        final Percolation percolation = new Percolation(n);
+        for (int trial = 0; trial < trials; trial++) {
+            percolation.reset();
+            random.reseed(master.nextLong());
+            sweep(random, order, percolation);
+        }
+
+        for (int k = 0; k <= sites; k++) {
+            spanning[k] /= trials;
+            largestClusterFraction[k] /= (double) trials * sites;
+        }
+    }
+
+    /**
+     * Opens every site once in a random order and adds the observables after each opening to the running sums.
+     *
+     * @param random      random stream of the trial
+     * @param order       working array which receives the permutation of the sites
+     * @param percolation percolation system with no open sites
+     */
+    private void sweep(RandomSource random, int[] order, Percolation percolation) {
+        for (int k = 0; k < sites; k++) {
+            order[k] = k;
+        }
+        for (int k = 0; k < sites; k++) {
+            final int pick = k + random.nextInt(sites - k);
+            final int site = order[pick];
+            order[pick] = order[k];
+            order[k] = site;
+
+            percolation.open((site / gridSideLength) + 1, (site % gridSideLength) + 1);
+            if (percolation.percolates()) {
+                spanning[k + 1] += 1.0;
+            }
+            largestClusterFraction[k + 1] += percolation.largestClusterSize();
+        }
+    }
+
+    /**
+     * @param openSites number of open sites
+     *
+     * @return fraction of the trials which spanned with exactly that many sites open
+     */
+    public double spanningProbabilityAt(int openSites) {
+        validateOpenSites(openSites);
+        return spanning[openSites];
+    }
+
+    /**
+     * @param openSites number of open sites
+     *
+     * @return mean size of the largest cluster, as a fraction of n^2, with exactly that many sites open
+     */
+    public double largestClusterFractionAt(int openSites) {
+        validateOpenSites(openSites);
+        return largestClusterFraction[openSites];
+    }
+
+    /**
+     * @param p occupation probability
+     *
+     * @return probability that the grid spans from top to bottom when every site is open with probability p
+     */
+    public double spanningProbability(double p) {
+        return convolve(spanning, p);
+    }
+
+    /**
+     * @param p occupation probability
+     *
+     * @return mean size of the largest cluster, as a fraction of n^2, when every site is open with probability p
+     */
+    public double largestClusterFraction(double p) {
+        return convolve(largestClusterFraction, p);
+    }
+
+    /**
+     * @param probabilities occupation probabilities
+     *
+     * @return the spanning probability for each of the occupation probabilities provided
+     */
+    public double[] spanningProbability(double[] probabilities) {
+        final double[] curve = new double[probabilities.length];
+        for (int i = 0; i < probabilities.length; i++) {
+            curve[i] = spanningProbability(probabilities[i]);
+        }
+        return curve;
+    }
+
+    /**
+     * @param probabilities occupation probabilities
+     *
+     * @return the mean largest cluster fraction for each of the occupation probabilities provided
+     */
+    public double[] largestClusterFraction(double[] probabilities) {
+        final double[] curve = new double[probabilities.length];
+        for (int i = 0; i < probabilities.length; i++) {
+            curve[i] = largestClusterFraction(probabilities[i]);
+        }
+        return curve;
+    }
+
+    /**
+     * Convolves a microcanonical observable with the binomial distribution of the number of open sites.
+     * <p>
+     * The weights are built outwards from the mode with the ratios of consecutive binomial coefficients and normalised
+     * at the end, so neither factorials nor powers of p are ever computed and nothing overflows.
+     *
+     * @param microcanonical observable for 0 to N open sites
+     * @param p              occupation probability
+     *
+     * @return the canonical observable at p
+     */
+    private double convolve(double[] microcanonical, double p) {
+        if ((p < 0.0) || (p > 1.0) || Double.isNaN(p)) {
+            throw new IllegalArgumentException(INVALID_PROBABILITY);
+        }
+        if (p == 0.0) {
+            return microcanonical[0];
+        }
+        if (p == 1.0) {
+            return microcanonical[sites];
+        }
+
+        final int mode = (int) Math.floor(sites * p);
+        final double odds = p / (1.0 - p);
+        double sum = microcanonical[mode];
+        double norm = 1.0;
+
+        double weight = 1.0;
+        for (int k = mode + 1; k <= sites; k++) {
+            weight *= ((double) (sites - k + 1) / k) * odds;
+            if (weight < NEGLIGIBLE_WEIGHT) {
+                break;
+            }
+            sum += weight * microcanonical[k];
+            norm += weight;
+        }
+
+        weight = 1.0;
+        for (int k = mode - 1; k >= 0; k--) {
+            weight *= ((double) (k + 1) / (sites - k)) / odds;
+            if (weight < NEGLIGIBLE_WEIGHT) {
+                break;
+            }
+            sum += weight * microcanonical[k];
+            norm += weight;
+        }
+
+        return sum / norm;
+    }
+
+    private void validateOpenSites(int openSites) {
+        if ((openSites < 0) || (openSites > sites)) {
+            throw new IllegalArgumentException(INVALID_OPEN_SITES);
+        }
+    }
+
+    /**
+     * Test client. Prints the spanning probability and the largest cluster fraction for p = 0.50 to 0.70.
+     *
+     * @param args arguments provided. n, trials and optionally the seed.
+     */
+    public static void main(String[] args) {
+        int n = Integer.parseInt(args[0]);
+        int trials = Integer.parseInt(args[1]);
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : StdRandom.uniform(Integer.MAX_VALUE);
+        NewmanZiffPercolation nz = new NewmanZiffPercolation(n, trials, seed);
+
+        for (int i = 50; i <= 70; i++) {
+            double p = i / 100.0;
+            StdOut.println("p = " + p + "  P(p) = " + nz.spanningProbability(p)
+                           + "  largest = " + nz.largestClusterFraction(p));
+        }
+    }
+}
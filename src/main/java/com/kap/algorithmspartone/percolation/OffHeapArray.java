@@ -0,0 +1,136 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Array of fixed size elements outside of the Java heap, indexed by long.
+ * <p>
+ * A ByteBuffer cannot hold more than 2 GB, so the array is split into chunks of a power of two elements each, and no
+ * element ever straddles two chunks. The chunks are either direct buffers or regions of a memory-mapped file. Both
+ * start zeroed, so the owner should choose an encoding in which all zero bytes mean the initial state.
+ * <p>
+ * Indices are not validated.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class OffHeapArray {
+
+    // 2^30 bytes per chunk at most, which keeps every chunk under the 2 GB limit of a ByteBuffer
+    private static final int MAX_CHUNK_BYTES_SHIFT = 30;
+
+    private final ByteBuffer[] chunks;
+    private final int elementSize;
+    private final int chunkShift;
+    private final long chunkMask;
+
+    private OffHeapArray(ByteBuffer[] chunks, int elementSize, int chunkShift) {
+        this.chunks = chunks;
+        this.elementSize = elementSize;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+    }
+
+    /**
+     * Allocates the array in direct buffers.
+     *
+     * @param length      number of elements
+     * @param elementSize size of an element in bytes
+     *
+     * @return a zeroed array
+     */
+    static OffHeapArray direct(long length, int elementSize) {
+        final int shift = chunkShift(elementSize);
+        final ByteBuffer[] chunks = new ByteBuffer[chunkCount(length, shift)];
+        for (int i = 0; i < chunks.length; i++) {
+            final long elements = Math.min(1L << shift, length - ((long) i << shift));
+            chunks[i] = ByteBuffer.allocateDirect((int) (elements * elementSize)).order(ByteOrder.nativeOrder());
+        }
+        return new OffHeapArray(chunks, elementSize, shift);
+    }
+
+    /**
+     * Maps the array onto a file, which is created, or truncated if it exists, so that the array always reads as zeros
+     * however the file was left by an earlier run. The mapping stays valid after this method returns and is released
+     * by the garbage collector.
+     *
+     * @param file        backing file
+     * @param length      number of elements
+     * @param elementSize size of an element in bytes
+     *
+     * @return an array backed by the file
+     *
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    static OffHeapArray mapped(Path file, long length, int elementSize) throws IOException {
+        final int shift = chunkShift(elementSize);
+        final ByteBuffer[] chunks = new ByteBuffer[chunkCount(length, shift)];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            for (int i = 0; i < chunks.length; i++) {
+                final long first = (long) i << shift;
+                final long elements = Math.min(1L << shift, length - first);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, first * elementSize, elements * elementSize)
+                                   .order(ByteOrder.nativeOrder());
+            }
+        }
+        return new OffHeapArray(chunks, elementSize, shift);
+    }
+
+    // largest power of two number of elements which fits in a chunk
+    private static int chunkShift(int elementSize) {
+        return MAX_CHUNK_BYTES_SHIFT - (32 - Integer.numberOfLeadingZeros(elementSize - 1));
+    }
+
+    private static int chunkCount(long length, int shift) {
+        return (int) Math.max(1L, (length + (1L << shift) - 1) >>> shift);
+    }
+
+    private ByteBuffer chunk(long index) {
+        return chunks[(int) (index >>> chunkShift)];
+    }
+
+    private int offset(long index) {
+        return (int) (index & chunkMask) * elementSize;
+    }
+
+    byte getByte(long index) {
+        return chunk(index).get(offset(index));
+    }
+
+    void putByte(long index, byte value) {
+        chunk(index).put(offset(index), value);
+    }
+
+    long getLong(long index) {
+        return chunk(index).getLong(offset(index));
+    }
+
+    void putLong(long index, long value) {
+        chunk(index).putLong(offset(index), value);
+    }
+
+    /**
+     * Reads a 40 bit unsigned value stored in an element of at least 5 bytes.
+     */
+    long get40(long index) {
+        final ByteBuffer chunk = chunk(index);
+        final int offset = offset(index);
+        return (chunk.getInt(offset) & 0xFFFFFFFFL) | ((chunk.get(offset + 4) & 0xFFL) << 32);
+    }
+
+    /**
+     * Writes a 40 bit unsigned value into an element of at least 5 bytes.
+     */
+    void put40(long index, long value) {
+        final ByteBuffer chunk = chunk(index);
+        final int offset = offset(index);
+        chunk.putInt(offset, (int) value);
+        chunk.put(offset + 4, (byte) (value >>> 32));
+    }
+}
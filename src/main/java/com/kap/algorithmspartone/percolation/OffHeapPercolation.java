@@ -0,0 +1,161 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Percolation system for lattices too large for Percolation's int indices or for the Java heap.
+ * <p>
+ * Sites are indexed by long, so n is no longer capped at 46340. The open sites and an OffHeapUnionFind live in direct
+ * buffers or in memory-mapped files, which keeps the heap small and the garbage collector idle. A site costs 6 bytes
+ * of union find plus one bit, so an n = 100000 lattice needs about 61 GB; with memory-mapped files the operating system
+ * pages that in and out as needed.
+ * <p>
+ * The semantics are those of Percolation: the root of every cluster carries flags telling whether the cluster touches
+ * the top and the bottom row.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class OffHeapPercolation {
+
+    private static final String INVALID_SITES_INPUT = "Sites numbers provided are outside of the prescribed range." +
+                                                      "Valid range spans from 1 to gridSideLength provided";
+
+    private static final String INVALID_GRID_SIZE = "Grid side length provided is invalid. Valid input should be an " +
+                                                    "integer bigger than zero whose square fits in 40 bits";
+
+    private final OffHeapUnionFind unionFind;
+    private final OffHeapArray openSites;
+    private final int gridSideLength;
+    private long openSitesCount;
+    private boolean percolates;
+
+    /**
+     * Creates an n-by-n system kept in direct buffers.
+     *
+     * @param n grid side length provided.
+     */
+    public OffHeapPercolation(int n) {
+        gridSideLength = validateGridSize(n);
+        final long sites = (long) n * n;
+        unionFind = OffHeapUnionFind.direct(sites);
+        openSites = OffHeapArray.direct(wordsFor(sites), Long.BYTES);
+    }
+
+    /**
+     * Creates an n-by-n system kept in memory-mapped files inside the directory provided. Files left in the directory
+     * by an earlier system are truncated, so every site starts blocked. The directory should not hold the files of
+     * another system still in use.
+     *
+     * @param n         grid side length provided.
+     * @param directory directory which receives the backing files
+     *
+     * @throws IOException if the files cannot be created or mapped
+     */
+    public OffHeapPercolation(int n, Path directory) throws IOException {
+        gridSideLength = validateGridSize(n);
+        final long sites = (long) n * n;
+        unionFind = OffHeapUnionFind.mapped(sites, directory);
+        openSites = OffHeapArray.mapped(directory.resolve("open.bin"), wordsFor(sites), Long.BYTES);
+    }
+
+    /**
+     * Opens the site provided. Opening a site which is already open has no effect.
+     *
+     * @param row site row index provided
+     * @param col site column index provided
+     */
+    public void open(int row, int col) {
+        validateIndices(row, col);
+        final long site = getSiteIndex(row, col);
+        if (isOpenSite(site)) {
+            return;
+        }
+        final long word = site >>> 6;
+        openSites.putLong(word, openSites.getLong(word) | (1L << site));
+        openSitesCount++;
+
+        unionFind.tag(site, BoundaryFlags.ofRow(row, gridSideLength));
+
+        long root = site;
+        if ((col > 1) && isOpenSite(site - 1)) {
+            root = unionFind.union(root, site - 1);
+        }
+        if ((col < gridSideLength) && isOpenSite(site + 1)) {
+            root = unionFind.union(root, site + 1);
+        }
+        if ((row > 1) && isOpenSite(site - gridSideLength)) {
+            root = unionFind.union(root, site - gridSideLength);
+        }
+        if ((row < gridSideLength) && isOpenSite(site + gridSideLength)) {
+            root = unionFind.union(root, site + gridSideLength);
+        }
+        percolates = percolates || BoundaryFlags.spans(unionFind.tags(root));
+    }
+
+    /**
+     * @param row site row index provided
+     * @param col site column index provided
+     *
+     * @return true if site provided is open. otherwise false.
+     */
+    public boolean isOpen(int row, int col) {
+        validateIndices(row, col);
+        return isOpenSite(getSiteIndex(row, col));
+    }
+
+    /**
+     * Checks whether a site is full. i.e. whether the site with the provided coordinates belongs to a cluster which
+     * touches the top row.
+     *
+     * @param row site row index provided
+     * @param col site column index provided
+     *
+     * @return true if site is full. false otherwise.
+     */
+    public boolean isFull(int row, int col) {
+        validateIndices(row, col);
+        return BoundaryFlags.isFull(unionFind.tags(unionFind.find(getSiteIndex(row, col))));
+    }
+
+    /**
+     * @return number of open sites
+     */
+    public long numberOfOpenSites() {
+        return openSitesCount;
+    }
+
+    /**
+     * Checks whether the system percolates or not. i.e. whether a cluster touches both the top and the bottom row.
+     *
+     * @return true if systems percolates. otherwise returns false.
+     */
+    public boolean percolates() {
+        return percolates;
+    }
+
+    private boolean isOpenSite(long site) {
+        return (openSites.getLong(site >>> 6) & (1L << site)) != 0;
+    }
+
+    private static int validateGridSize(int n) {
+        if ((n <= 0) || (((long) n * n) > OffHeapUnionFind.MAX_SITES)) {
+            throw new IllegalArgumentException(INVALID_GRID_SIZE);
+        }
+        return n;
+    }
+
+    private static long wordsFor(long sites) {
+        return (sites + 63) >>> 6;
+    }
+
+    private void validateIndices(int row, int col) {
+        if ((row < 1) || (col < 1) || (row > gridSideLength) || (col > gridSideLength)) {
+            throw new IllegalArgumentException(INVALID_SITES_INPUT);
+        }
+    }
+
+    private long getSiteIndex(int row, int col) {
+        return ((long) gridSideLength * (row - 1)) + col - 1;
+    }
+}
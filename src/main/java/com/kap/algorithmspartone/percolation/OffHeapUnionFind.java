@@ -0,0 +1,133 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Union find over up to 2^40 - 1 sites, indexed by long and kept outside of the Java heap.
+ * <p>
+ * Every site takes 6 bytes: a 40 bit parent and a byte holding the rank of a root in its low 6 bits and two tag bits
+ * in its high 2 bits. Tags are merged when components are joined, which is how OffHeapPercolation remembers which
+ * clusters touch the top and bottom rows. The parent is stored as parent + 1, with 0 meaning that the site is its own
+ * parent, so the zeroed storage already holds n singleton components and no initialisation pass is needed.
+ * <p>
+ * Components are linked by rank and paths are halved during every find. Site indices are not validated.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class OffHeapUnionFind {
+
+    /**
+     * Largest number of sites the 40 bit parents can address.
+     */
+    static final long MAX_SITES = (1L << 40) - 1;
+
+    private static final int PARENT_BYTES = 5;
+    private static final int RANK_MASK = 0x3F;
+    private static final int TAG_SHIFT = 6;
+
+    private final OffHeapArray parents;
+    private final OffHeapArray meta;
+
+    private OffHeapUnionFind(OffHeapArray parents, OffHeapArray meta) {
+        this.parents = parents;
+        this.meta = meta;
+    }
+
+    /**
+     * @param n number of sites
+     *
+     * @return a union find kept in direct buffers
+     */
+    static OffHeapUnionFind direct(long n) {
+        return new OffHeapUnionFind(OffHeapArray.direct(n, PARENT_BYTES), OffHeapArray.direct(n, 1));
+    }
+
+    /**
+     * @param n         number of sites
+     * @param directory directory which receives the parent and meta files
+     *
+     * @return a union find kept in memory-mapped files
+     *
+     * @throws IOException if the files cannot be created or mapped
+     */
+    static OffHeapUnionFind mapped(long n, Path directory) throws IOException {
+        return new OffHeapUnionFind(OffHeapArray.mapped(directory.resolve("parent.bin"), n, PARENT_BYTES),
+                                    OffHeapArray.mapped(directory.resolve("meta.bin"), n, 1));
+    }
+
+    private long parent(long p) {
+        final long stored = parents.get40(p);
+        return (stored == 0) ? p : (stored - 1);
+    }
+
+    private void setParent(long p, long parent) {
+        parents.put40(p, (parent == p) ? 0 : (parent + 1));
+    }
+
+    /**
+     * @param p site index
+     *
+     * @return the canonical site of the component containing p
+     */
+    long find(long p) {
+        long parent = parent(p);
+        while (parent != p) {
+            final long grandParent = parent(parent);
+            setParent(p, grandParent);
+            p = grandParent;
+            parent = parent(p);
+        }
+        return p;
+    }
+
+    /**
+     * Merges the component containing p with the component containing q. The tags of the two roots are merged.
+     *
+     * @param p site index
+     * @param q site index
+     *
+     * @return the root of the merged component
+     */
+    long union(long p, long q) {
+        final long rootP = find(p);
+        final long rootQ = find(q);
+        if (rootP == rootQ) {
+            return rootP;
+        }
+
+        final int metaP = meta.getByte(rootP) & 0xFF;
+        final int metaQ = meta.getByte(rootQ) & 0xFF;
+        final int rankP = metaP & RANK_MASK;
+        final int rankQ = metaQ & RANK_MASK;
+        final int tags = (metaP | metaQ) & ~RANK_MASK;
+
+        if (rankP < rankQ) {
+            setParent(rootP, rootQ);
+            meta.putByte(rootQ, (byte) (tags | rankQ));
+            return rootQ;
+        }
+        setParent(rootQ, rootP);
+        meta.putByte(rootP, (byte) (tags | ((rankP == rankQ) ? (rankP + 1) : rankP)));
+        return rootP;
+    }
+
+    /**
+     * @param root canonical site of a component
+     *
+     * @return the 2 tag bits of the component
+     */
+    int tags(long root) {
+        return (meta.getByte(root) & 0xFF) >>> TAG_SHIFT;
+    }
+
+    /**
+     * Adds tag bits to a component.
+     *
+     * @param root canonical site of a component
+     * @param tags tag bits, 0 to 3
+     */
+    void tag(long root, int tags) {
+        meta.putByte(root, (byte) (meta.getByte(root) | (tags << TAG_SHIFT)));
+    }
+}
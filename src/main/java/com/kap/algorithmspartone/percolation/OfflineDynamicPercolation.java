@@ -0,0 +1,279 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.util.Arrays;
+
+/**
+ * Answers percolation queries over a recorded stream of open and close events.
+ * <p>
+ * State k is the system after the first k events, so a log of T events has the states 0 to T. Every stretch of time
+ * during which a site stays open is an interval of states, and each interval is stored on the O(log T) nodes of a
+ * segment tree over the states which cover it exactly. A depth first walk of the tree opens the sites of a node on a
+ * Percolation built on the rollback union find, visits the children and rolls the node back. On reaching a leaf the
+ * system holds exactly the sites open in that state. A site opened at a node only ever meets neighbours opened at the
+ * node or its ancestors, and those are open for the whole range of the node too. Answering every query of a log of T
+ * events therefore costs O(T log T log n) rather than one rebuild per close event.
+ * <p>
+ * Events and isFull queries are recorded first; the walk runs on the first percolates or isFull call which follows
+ * new events or queries.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class OfflineDynamicPercolation {
+
+    private static final String INVALID_SITES_INPUT = "Sites numbers provided are outside of the prescribed range." +
+                                                      "Valid range spans from 1 to gridSideLength provided";
+
+    private static final String SITES_INPUT_SUB_OR_EQUAL_ZERO = "Number of sites provided as an input is invalid." +
+                                                                "Valid input should be an integer biggen than zero";
+
+    private static final String INVALID_STATE = "State provided is outside of the range 0 to the number of events.";
+
+    private static final String INVALID_QUERY = "Query provided was not returned by queryFull.";
+
+    private static final int CLOSED = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int gridSideLength;
+    private final int[] openedAt;
+
+    // open intervals [from, to] of states, recorded as sites close
+    private int[] intervalSites = new int[INITIAL_CAPACITY];
+    private int[] intervalFrom = new int[INITIAL_CAPACITY];
+    private int[] intervalTo = new int[INITIAL_CAPACITY];
+    private int intervalCount;
+
+    private int[] querySites = new int[INITIAL_CAPACITY];
+    private int[] queryStates = new int[INITIAL_CAPACITY];
+    private int queryCount;
+
+    private int events;
+    private boolean solved;
+    private boolean[] percolatesAt;
+    private boolean[] fullAnswers;
+
+    /**
+     * Creates an empty log for an n-by-n grid whose sites are all blocked in state 0.
+     *
+     * @param n grid side length provided.
+     */
+    public OfflineDynamicPercolation(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException(SITES_INPUT_SUB_OR_EQUAL_ZERO);
+        }
+        gridSideLength = n;
+        openedAt = new int[n * n];
+        Arrays.fill(openedAt, CLOSED);
+    }
+
+    /**
+     * Records the opening of a site. Opening a site which is already open still counts as an event.
+     *
+     * @param row site row index provided
+     * @param col site column index provided
+     */
+    public void open(int row, int col) {
+        final int site = getSiteIndex(row, col);
+        events++;
+        if (openedAt[site] == CLOSED) {
+            openedAt[site] = events;
+        }
+        solved = false;
+    }
+
+    /**
+     * Records the closing of a site. Closing a site which is already blocked still counts as an event.
+     *
+     * @param row site row index provided
+     * @param col site column index provided
+     */
+    public void close(int row, int col) {
+        final int site = getSiteIndex(row, col);
+        if (openedAt[site] != CLOSED) {
+            addInterval(site, openedAt[site], events);
+            openedAt[site] = CLOSED;
+        }
+        events++;
+        solved = false;
+    }
+
+    /**
+     * Records a question about whether the site provided is full in the current state.
+     *
+     * @param row site row index provided
+     * @param col site column index provided
+     *
+     * @return the query number to hand to isFull
+     */
+    public int queryFull(int row, int col) {
+        final int site = getSiteIndex(row, col);
+        if (queryCount == querySites.length) {
+            querySites = Arrays.copyOf(querySites, 2 * queryCount);
+            queryStates = Arrays.copyOf(queryStates, 2 * queryCount);
+        }
+        querySites[queryCount] = site;
+        queryStates[queryCount] = events;
+        solved = false;
+        return queryCount++;
+    }
+
+    /**
+     * @return number of events recorded
+     */
+    public int events() {
+        return events;
+    }
+
+    /**
+     * @param state number of events applied, 0 to events()
+     *
+     * @return true if the system percolates in that state. otherwise false.
+     */
+    public boolean percolates(int state) {
+        if ((state < 0) || (state > events)) {
+            throw new IllegalArgumentException(INVALID_STATE);
+        }
+        solve();
+        return percolatesAt[state];
+    }
+
+    /**
+     * @param query query number returned by queryFull
+     *
+     * @return true if the site of the query was full in the state it was asked in. false otherwise.
+     */
+    public boolean isFull(int query) {
+        if ((query < 0) || (query >= queryCount)) {
+            throw new IllegalArgumentException(INVALID_QUERY);
+        }
+        solve();
+        return fullAnswers[query];
+    }
+
+    private void addInterval(int site, int from, int to) {
+        if (intervalCount == intervalSites.length) {
+            intervalSites = Arrays.copyOf(intervalSites, 2 * intervalCount);
+            intervalFrom = Arrays.copyOf(intervalFrom, 2 * intervalCount);
+            intervalTo = Arrays.copyOf(intervalTo, 2 * intervalCount);
+        }
+        intervalSites[intervalCount] = site;
+        intervalFrom[intervalCount] = from;
+        intervalTo[intervalCount] = to;
+        intervalCount++;
+    }
+
+    private void solve() {
+        if (solved) {
+            return;
+        }
+        final int states = events + 1;
+
+        // sites still open stay open until the last state; their intervals are appended for this walk only
+        final int closedIntervals = intervalCount;
+        for (int site = 0; site < openedAt.length; site++) {
+            if (openedAt[site] != CLOSED) {
+                addInterval(site, openedAt[site], events);
+            }
+        }
+
+        // bucket the intervals by segment tree node: count, prefix sums, fill
+        final int[] nodeStart = new int[(4 * states) + 1];
+        for (int i = 0; i < intervalCount; i++) {
+            cover(1, 0, states - 1, i, nodeStart, null);
+        }
+        for (int node = 1; node < nodeStart.length; node++) {
+            nodeStart[node] += nodeStart[node - 1];
+        }
+        final int[] nodeSites = new int[nodeStart[nodeStart.length - 1]];
+        final int[] nextFree = Arrays.copyOf(nodeStart, nodeStart.length);
+        for (int i = 0; i < intervalCount; i++) {
+            cover(1, 0, states - 1, i, nextFree, nodeSites);
+        }
+        intervalCount = closedIntervals;
+
+        percolatesAt = new boolean[states];
+        fullAnswers = new boolean[queryCount];
+        final Percolation percolation = new Percolation(gridSideLength, UnionFindType.ROLLBACK);
+        walk(percolation, 1, 0, states - 1, nodeStart, nodeSites, 0);
+        solved = true;
+    }
+
+    /**
+     * Visits the segment tree nodes which exactly cover the interval provided. Without a site array, the interval is
+     * counted in the slot after every such node; with one, its site is written at the node's next free position.
+     *
+     * @param node      segment tree node
+     * @param lo        first state of the node
+     * @param hi        last state of the node
+     * @param interval  interval index
+     * @param positions counts, or next free positions, per node
+     * @param nodeSites sites of every node, or null while counting
+     */
+    private void cover(int node, int lo, int hi, int interval, int[] positions, int[] nodeSites) {
+        final int from = intervalFrom[interval];
+        final int to = intervalTo[interval];
+        if ((to < lo) || (hi < from)) {
+            return;
+        }
+        if ((from <= lo) && (hi <= to)) {
+            if (nodeSites == null) {
+                positions[node + 1]++;
+            } else {
+                nodeSites[positions[node]++] = intervalSites[interval];
+            }
+            return;
+        }
+        final int mid = (lo + hi) >>> 1;
+        cover(2 * node, lo, mid, interval, positions, nodeSites);
+        cover((2 * node) + 1, mid + 1, hi, interval, positions, nodeSites);
+    }
+
+    /**
+     * Opens the sites of a node, answers the states below it and rolls the node back.
+     *
+     * @param percolation system holding the sites of the node's ancestors
+     * @param node        segment tree node
+     * @param lo          first state of the node
+     * @param hi          last state of the node
+     * @param nodeStart   first position of every node's sites
+     * @param nodeSites   sites of every node
+     * @param query       first query not answered yet
+     *
+     * @return first query not answered after the node
+     */
+    private int walk(Percolation percolation, int node, int lo, int hi, int[] nodeStart, int[] nodeSites,
+                     int query) {
+        percolation.checkpoint();
+        for (int i = nodeStart[node]; i < nodeStart[node + 1]; i++) {
+            percolation.open((nodeSites[i] / gridSideLength) + 1, (nodeSites[i] % gridSideLength) + 1);
+        }
+
+        if (lo == hi) {
+            percolatesAt[lo] = percolation.percolates();
+            while ((query < queryCount) && (queryStates[query] == lo)) {
+                final int site = querySites[query];
+                fullAnswers[query] = percolation.isFull((site / gridSideLength) + 1, (site % gridSideLength) + 1);
+                query++;
+            }
+        } else {
+            final int mid = (lo + hi) >>> 1;
+            query = walk(percolation, 2 * node, lo, mid, nodeStart, nodeSites, query);
+            query = walk(percolation, (2 * node) + 1, mid + 1, hi, nodeStart, nodeSites, query);
+        }
+
+        percolation.rollback();
+        return query;
+    }
+
+    /**
+     * Validates the indices provided and maps them to a row major site index.
+     *
+     * @param row site row index provided
+     * @param col site column index provided
+     */
+    private int getSiteIndex(int row, int col) {
+        if ((row < 1) || (col < 1) || (row > gridSideLength) || (col > gridSideLength)) {
+            throw new IllegalArgumentException(INVALID_SITES_INPUT);
+        }
+        return (gridSideLength * (row - 1)) + col - 1;
+    }
+}
@@ -1,7 +1,10 @@
 package com.kap.algorithmspartone.percolation;
 
 import edu.princeton.cs.algs4.StdOut;
-import edu.princeton.cs.algs4.WeightedQuickUnionUF;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 
 /**
  * @author Konstantinos Antoniou
@@ -14,72 +17,322 @@ public class Percolation {
     private static final String SITES_INPUT_SUB_OR_EQUAL_ZERO = "Number of sites provided as an input is invalid." +
                                                                 "Valid input should be an integer biggen than zero";
 
+    private static final String UNION_FIND_TYPE_IS_NULL = "Union find type provided is null.";
+
+    private static final String SITE_LAYOUT_IS_NULL = "Site layout provided is null.";
+
+    private static final String INVALID_CLUSTER_SIZE = "Cluster size provided is outside of the range 1 to n^2.";
+
+    private static final String SNAPSHOT_NEEDS_COMPACT = "Snapshots are only supported by the compact union find.";
+
+    private static final String NOT_A_SNAPSHOT = "File provided is not a percolation snapshot.";
+
+    private static final String ROLLBACK_NEEDS_ROLLBACK_UNION_FIND = "Checkpoints are only supported by the " +
+                                                                     "rollback union find.";
+
+    private static final String ROWS_AND_COLUMNS_DIFFER = "Rows and columns provided have different lengths.";
+
+    private static final String CLOSE_DURING_CHECKPOINT = "Sites cannot be closed while a checkpoint is active.";
+
+    private static final String NO_CHECKPOINT = "There is no checkpoint to roll back to.";
+
     private static final String LINE_SPLIT = "========================";
 
-    private final WeightedQuickUnionUF weightedQuickUnionUF;
-    private boolean[][] openSites;
+    // "PERC" followed by the format version
+    private static final int SNAPSHOT_MAGIC = 0x50455243;
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final int SNAPSHOT_HEADER_INTS = 9;
+    private static final int MAX_SNAPSHOT_SIDE_LENGTH = 46340;
+
+    private final SiteClusters clusters;
+    private final SiteLayout siteLayout;
+    private final IntStack checkpoints = new IntStack();
     private final int gridSideLength;
-    private final int virtualTopSite;
-    private final int virtualBottomSite;
-    private int openSitesCount;
 
     /**
      * com.kap.algorithmspartone.percolation.Percolation class constructor.
      * <p>
      * Checks whether the grid side length provided is valid (n > 0). Otherwise, throws IllegalArgumentException.
      * <p>
-     * Initializes the WeightedQuickUnionFind class with a n^2 number of sites plus two additional virtual sites.
-     * <p>
-     * Maps the virtual sites positions on the grid to union find object terms.
+     * Initializes the default (compact) union find with a n^2 number of sites.
      * <p>
-     * Initializes the openSites matrix according to grid side length provided.
+     * Initializes the openSites bit set according to grid side length provided.
      *
      * @param n grid side length provided.
      */
     public Percolation(int n) {
+        this(n, UnionFindType.COMPACT);
+    }
+
+    /**
+     * com.kap.algorithmspartone.percolation.Percolation class constructor using the union find backend provided.
+     * <p>
+     * Instead of joining the top and bottom rows to virtual sites, the root of every cluster carries a flag telling
+     * whether the cluster touches the top row and one telling whether it touches the bottom row. The union find
+     * components are therefore the real open clusters, which keeps the cluster statistics exact and means that a site
+     * never looks full only because it is connected to the bottom row.
+     *
+     * @param n             grid side length provided.
+     * @param unionFindType union find backend
+     */
+    public Percolation(int n, UnionFindType unionFindType) {
+        this(n, unionFindType, SiteLayout.ROW_MAJOR);
+    }
+
+    /**
+     * com.kap.algorithmspartone.percolation.Percolation class constructor using the union find backend and the site
+     * layout provided.
+     * <p>
+     * The layout decides where every site lives in the union find and in the open sites bit set. A tiled layout keeps
+     * the four neighbours of a site close in memory, which pays off once the grid no longer fits in the cache.
+     *
+     * @param n             grid side length provided.
+     * @param unionFindType union find backend
+     * @param siteLayout    site layout
+     */
+    public Percolation(int n, UnionFindType unionFindType, SiteLayout siteLayout) {
         if (n <= 0) {
             throw new IllegalArgumentException(SITES_INPUT_SUB_OR_EQUAL_ZERO);
         }
+        if (unionFindType == null) {
+            throw new IllegalArgumentException(UNION_FIND_TYPE_IS_NULL);
+        }
+        if (siteLayout == null) {
+            throw new IllegalArgumentException(SITE_LAYOUT_IS_NULL);
+        }
         gridSideLength = n;
-        weightedQuickUnionUF = new WeightedQuickUnionUF((gridSideLength * gridSideLength) + 2);
-        virtualTopSite = 0;
-        virtualBottomSite = (gridSideLength * gridSideLength) + 1;
-        openSites = new boolean[gridSideLength][gridSideLength];
+        this.siteLayout = siteLayout;
+        final int capacity = siteLayout.capacity(gridSideLength);
+        clusters = new SiteClusters(unionFindType.create(capacity), capacity);
     }
 
     /**
-     * Opens the site provided.
+     * Opens the site provided. Opening a site which is already open has no effect.
+     * <p>
+     * The cluster count, the largest cluster size and the cluster size histogram are updated as the new site joins its
+     * open neighbours.
      *
      * @param row site row index provided
      * @param col site column index provided
      */
     public void open(int row, int col) {
         validateIndices(row, col);
-        openSites[row - 1][col - 1] = true;
-        openSitesCount++;
+        openValidated(row, col);
+    }
 
-        if (row == 1) {
-            weightedQuickUnionUF.union(getUfIndex(row, col), virtualTopSite);
+    /**
+     * Opens every site of a batch, given as parallel arrays of row and column indices. The whole batch is validated
+     * before any site is opened, so an invalid index leaves the system untouched; the sites are then opened in a tight
+     * loop without further checks. Sites which are already open are skipped.
+     *
+     * @param rows row index of every site
+     * @param cols column index of every site
+     */
+    public void openAll(int[] rows, int[] cols) {
+        validateBatch(rows, cols);
+        for (int i = 0; i < rows.length; i++) {
+            openValidated(rows[i], cols[i]);
         }
+    }
 
-        if (row == gridSideLength) {
-            weightedQuickUnionUF.union(getUfIndex(row, col), virtualBottomSite);
+    /**
+     * Opens every site of a batch given as row major site indices, (n * (row - 1) + col - 1), whatever the site layout
+     * of the system. The whole batch is validated before any site is opened. Sites which are already open are skipped.
+     *
+     * @param siteIndices row major index of every site, 0 to n^2 - 1
+     */
+    public void openAll(int[] siteIndices) {
+        for (int siteIndex : siteIndices) {
+            if ((siteIndex < 0) || (siteIndex >= (gridSideLength * gridSideLength))) {
+                throw new IllegalArgumentException(INVALID_SITES_INPUT);
+            }
         }
+        for (int siteIndex : siteIndices) {
+            openValidated((siteIndex / gridSideLength) + 1, (siteIndex % gridSideLength) + 1);
+        }
+    }
 
-        if ((col > 1) && isOpen(row, col - 1)) {
-            weightedQuickUnionUF.union(getUfIndex(row, col), getUfIndex(row, col - 1));
+    /**
+     * Replays a log of site openings, given as parallel arrays of row and column indices, and reports when the system
+     * percolated. The batch is validated once, as in openAll, and every site of the log is opened even after the
+     * system percolates.
+     *
+     * @param rows row index of the site opened at every step
+     * @param cols column index of the site opened at every step
+     *
+     * @return the step, counted from 1, whose opening made the system percolate. 0 if the system did not start to
+     * percolate during the replay.
+     */
+    public int replay(int[] rows, int[] cols) {
+        validateBatch(rows, cols);
+        int percolationStep = 0;
+        for (int i = 0; i < rows.length; i++) {
+            final boolean percolatedBefore = clusters.percolates;
+            openValidated(rows[i], cols[i]);
+            if (clusters.percolates && !percolatedBefore) {
+                percolationStep = i + 1;
+            }
+        }
+        return percolationStep;
+    }
+
+    private void validateBatch(int[] rows, int[] cols) {
+        if (rows.length != cols.length) {
+            throw new IllegalArgumentException(ROWS_AND_COLUMNS_DIFFER);
+        }
+        for (int i = 0; i < rows.length; i++) {
+            validateIndices(rows[i], cols[i]);
+        }
+    }
+
+    /**
+     * Opens a site whose indices have already been validated.
+     *
+     * @param row site row index
+     * @param col site column index
+     */
+    private void openValidated(int row, int col) {
+        final int site = getSiteIndex(row, col);
+        if (!clusters.open(site, BoundaryFlags.ofRow(row, gridSideLength))) {
+            return;
+        }
+
+        joinOpenNeighbours(site, row, col);
+    }
+
+    /**
+     * Joins an open site to its open neighbours.
+     *
+     * @param site index of the open site
+     * @param row  site row index, validated
+     * @param col  site column index, validated
+     */
+    private void joinOpenNeighbours(int site, int row, int col) {
+        // indices are already validated, so the neighbours are read straight from the bit set
+        if (col > 1) {
+            clusters.joinIfOpen(site, getSiteIndex(row, col - 1));
         }
 
-        if ((col < gridSideLength) && isOpen(row, col + 1)) {
-            weightedQuickUnionUF.union(getUfIndex(row, col), getUfIndex(row, col + 1));
+        if (col < gridSideLength) {
+            clusters.joinIfOpen(site, getSiteIndex(row, col + 1));
         }
 
-        if ((row > 1) && isOpen(row - 1, col)) {
-            weightedQuickUnionUF.union(getUfIndex(row, col), getUfIndex(row - 1, col));
+        if (row > 1) {
+            clusters.joinIfOpen(site, getSiteIndex(row - 1, col));
         }
 
-        if ((row < gridSideLength) && isOpen(row + 1, col)) {
-            weightedQuickUnionUF.union(getUfIndex(row, col), getUfIndex(row + 1, col));
+        if (row < gridSideLength) {
+            clusters.joinIfOpen(site, getSiteIndex(row + 1, col));
+        }
+    }
+
+    /**
+     * Blocks the site provided again. Closing a site which is already blocked has no effect.
+     * <p>
+     * Only the former cluster of the closed site is rebuilt: its remaining sites are found by a flood fill, put back
+     * in components of their own and joined again with their open neighbours. A close therefore costs time
+     * proportional to that cluster, plus O(n) to look for another spanning cluster when it spanned the grid. The
+     * algs4 backend cannot isolate single sites, so with it every close still rebuilds the whole grid in O(n^2).
+     * Workloads which replay long sequences of open and close events should still prefer OfflineDynamicPercolation.
+     * Sites cannot be closed while a checkpoint is active.
+     *
+     * @param row site row index provided
+     * @param col site column index provided
+     */
+    public void close(int row, int col) {
+        validateIndices(row, col);
+        if (!checkpoints.isEmpty()) {
+            throw new IllegalStateException(CLOSE_DURING_CHECKPOINT);
+        }
+        final int site = getSiteIndex(row, col);
+        if (!clusters.openSites.get(site)) {
+            return;
+        }
+        if (clusters.unionFind instanceof AlgsUnionFind) {
+            clusters.openSites.clear(site);
+            clusters.openSitesCount--;
+            rebuild();
+            return;
+        }
+
+        final boolean spanned = clusters.detach(site);
+        final IntStack pending = new IntStack();
+        final IntStack members = new IntStack();
+        visit(row, col - 1, pending);
+        visit(row, col + 1, pending);
+        visit(row - 1, col, pending);
+        visit(row + 1, col, pending);
+        while (!pending.isEmpty()) {
+            final int memberCol = pending.pop();
+            final int memberRow = pending.pop();
+            members.push(memberRow);
+            members.push(memberCol);
+            visit(memberRow, memberCol - 1, pending);
+            visit(memberRow, memberCol + 1, pending);
+            visit(memberRow - 1, memberCol, pending);
+            visit(memberRow + 1, memberCol, pending);
+        }
+
+        // every open neighbour of a member is a member, so it has been added by the time the members are joined
+        clusters.isolate(site);
+        for (int i = 0; i < members.size(); i += 2) {
+            final int member = getSiteIndex(members.get(i), members.get(i + 1));
+            clusters.isolate(member);
+            clusters.addCluster(member, BoundaryFlags.ofRow(members.get(i), gridSideLength));
+        }
+        for (int i = 0; i < members.size(); i += 2) {
+            final int memberRow = members.get(i);
+            final int memberCol = members.get(i + 1);
+            joinOpenNeighbours(getSiteIndex(memberRow, memberCol), memberRow, memberCol);
+        }
+        clusters.refreshLargestClusterSize();
+
+        if (spanned) {
+            clusters.percolates = false;
+            for (int topCol = 1; topCol <= gridSideLength && !clusters.percolates; topCol++) {
+                final int topSite = getSiteIndex(1, topCol);
+                clusters.percolates = clusters.isOpen(topSite)
+                        && BoundaryFlags.spans(clusters.rootFlags[clusters.unionFind.find(topSite)]);
+            }
+        }
+    }
+
+    /**
+     * Pushes the coordinates of a site onto the stack provided if it lies on the grid, is open and was not visited
+     * yet by the flood fill of close.
+     */
+    private void visit(int row, int col, IntStack pending) {
+        if (row < 1 || row > gridSideLength || col < 1 || col > gridSideLength) {
+            return;
+        }
+        final int site = getSiteIndex(row, col);
+        if (clusters.isOpen(site) && clusters.markVisited(site)) {
+            pending.push(row);
+            pending.push(col);
+        }
+    }
+
+    /**
+     * Rebuilds the union find, the flags and the cluster statistics from the open sites bit set. Every open site is
+     * joined with its open neighbours to the left and above, which have been visited already. Only close with the algs4
+     * backend needs it, as that backend cannot isolate single sites.
+     */
+    private void rebuild() {
+        clusters.clearClusters();
+        for (int row = 1; row <= gridSideLength; row++) {
+            for (int col = 1; col <= gridSideLength; col++) {
+                final int site = getSiteIndex(row, col);
+                if (!clusters.openSites.get(site)) {
+                    continue;
+                }
+                clusters.addCluster(site, BoundaryFlags.ofRow(row, gridSideLength));
+                if (col > 1) {
+                    clusters.joinIfOpen(site, getSiteIndex(row, col - 1));
+                }
+                if (row > 1) {
+                    clusters.joinIfOpen(site, getSiteIndex(row - 1, col));
+                }
+            }
         }
     }
 
@@ -91,12 +344,12 @@ public class Percolation {
      */
     public boolean isOpen(int row, int col) {
         validateIndices(row, col);
-        return openSites[row - 1][col - 1];
+        return clusters.isOpen(getSiteIndex(row, col));
     }
 
     /**
-     * Checks whether a site is full. i.e. whether the site with the provided coordinates is connected with the virtual
-     * top site.
+     * Checks whether a site is full. i.e. whether the site with the provided coordinates belongs to a cluster which
+     * touches the top row.
      *
      * @param row site row index provided
      * @param col site column index provided
@@ -105,24 +358,218 @@ public class Percolation {
      */
     public boolean isFull(int row, int col) {
         validateIndices(row, col);
-        return weightedQuickUnionUF.connected(virtualTopSite, getUfIndex(row, col));
+        return clusters.isFull(getSiteIndex(row, col));
     }
 
     /**
      * @return number of open sites
      */
     public int numberOfOpenSites() {
-        return openSitesCount;
+        return clusters.openSitesCount;
     }
 
     /**
-     * Checks whether the system percolates or not. i.e. whether the virtual top site is connected with the virtual
-     * bottom site.
+     * Checks whether the system percolates or not. i.e. whether a cluster touches both the top and the bottom row.
      *
      * @return true if systems percolates. otherwise returns false.
      */
     public boolean percolates() {
-        return weightedQuickUnionUF.connected(virtualTopSite, virtualBottomSite);
+        return clusters.percolates;
+    }
+
+    /**
+     * @return number of open clusters
+     */
+    public int clusterCount() {
+        return clusters.clusterCount;
+    }
+
+    /**
+     * @return number of sites in the largest open cluster. 0 if no site is open.
+     */
+    public int largestClusterSize() {
+        return clusters.largestClusterSize;
+    }
+
+    /**
+     * @param row site row index provided
+     * @param col site column index provided
+     *
+     * @return number of sites in the cluster containing the site provided. 0 if the site is blocked.
+     */
+    public int clusterSize(int row, int col) {
+        validateIndices(row, col);
+        return clusters.clusterSize(getSiteIndex(row, col));
+    }
+
+    /**
+     * @param size cluster size
+     *
+     * @return number of open clusters with exactly that many sites
+     */
+    public int clusterCountOfSize(int size) {
+        if ((size < 1) || (size > gridSideLength * gridSideLength)) {
+            throw new IllegalArgumentException(INVALID_CLUSTER_SIZE);
+        }
+        return clusters.sizeCounts.count(size);
+    }
+
+    /**
+     * Blocks every site again so that the same instance can be reused for another experiment. The open sites, the
+     * flags and the cluster size histogram are cleared in place, and so are the union find arrays of the compact and
+     * rollback backends. The weighted quick union backend allocates a new algs4 WeightedQuickUnionUF instead, which
+     * cannot be reset.
+     */
+    public void reset() {
+        clusters.reset();
+        checkpoints.clear();
+    }
+
+    /**
+     * Marks the current state so that a later rollback can return to it. Checkpoints nest: every rollback returns to
+     * the most recent checkpoint not rolled back yet.
+     * <p>
+     * While a checkpoint is active, every open call journals the sites it opens and the root flags and cluster sizes
+     * its merges overwrite, and the rollback union find records its unions. Opening k sites and rolling them back
+     * therefore costs O(k log n), whatever the size of the grid. Only systems built on UnionFindType.ROLLBACK support
+     * checkpoints.
+     */
+    public void checkpoint() {
+        if (!(clusters.unionFind instanceof RollbackUnionFind)) {
+            throw new UnsupportedOperationException(ROLLBACK_NEEDS_ROLLBACK_UNION_FIND);
+        }
+        checkpoints.push(clusters.journalSize());
+        checkpoints.push(((RollbackUnionFind) clusters.unionFind).checkpoint());
+        checkpoints.push(clusters.openSitesCount);
+        checkpoints.push(clusters.clusterCount);
+        checkpoints.push(clusters.largestClusterSize);
+        checkpoints.push(clusters.percolates ? 1 : 0);
+        clusters.journaling = true;
+    }
+
+    /**
+     * Returns the system to the state it had at the most recent checkpoint, blocking every site opened since then,
+     * and discards that checkpoint.
+     */
+    public void rollback() {
+        if (checkpoints.isEmpty()) {
+            throw new IllegalStateException(NO_CHECKPOINT);
+        }
+        clusters.percolates = checkpoints.pop() != 0;
+        clusters.largestClusterSize = checkpoints.pop();
+        clusters.clusterCount = checkpoints.pop();
+        clusters.openSitesCount = checkpoints.pop();
+        final int unionFindCheckpoint = checkpoints.pop();
+        final int journalCheckpoint = checkpoints.pop();
+
+        clusters.undo(journalCheckpoint);
+        ((RollbackUnionFind) clusters.unionFind).rollback(unionFindCheckpoint);
+        clusters.journaling = !checkpoints.isEmpty();
+    }
+
+    /**
+     * Writes the whole state of the system to the file provided, which is created or overwritten.
+     * <p>
+     * The snapshot is a little endian header holding the grid side length, the site layout and the counters,
+     * followed by the open sites bit set, the union find parent and size arrays and the root flags, each one written
+     * as a raw array through a file channel, and by the number of distinct cluster sizes and their size, count pairs.
+     * Only systems built on the compact union find can be written, since algs4's WeightedQuickUnionUF does not expose
+     * its arrays.
+     *
+     * @param file snapshot file
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void writeSnapshot(Path file) throws IOException {
+        if (!(clusters.unionFind instanceof CompactUnionFind)) {
+            throw new UnsupportedOperationException(SNAPSHOT_NEEDS_COMPACT);
+        }
+        final CompactUnionFind compactUnionFind = (CompactUnionFind) clusters.unionFind;
+        try (SnapshotWriter out = new SnapshotWriter(file)) {
+            out.putInt(SNAPSHOT_MAGIC);
+            out.putInt(SNAPSHOT_VERSION);
+            out.putInt(gridSideLength);
+            out.putInt(siteLayout.ordinal());
+            out.putInt(clusters.openSitesCount);
+            out.putInt(clusters.clusterCount);
+            out.putInt(clusters.largestClusterSize);
+            out.putInt(clusters.percolates ? 1 : 0);
+            out.putInt(compactUnionFind.count());
+            out.putLongs(clusters.openSites.words());
+            out.putInts(compactUnionFind.parentArray());
+            out.putInts(compactUnionFind.sizeArray());
+            out.putBytes(clusters.rootFlags);
+            out.putInt(clusters.sizeCounts.distinctSizes());
+            out.putInts(clusters.sizeCounts.toPairs());
+        }
+    }
+
+    /**
+     * Restores a system written by writeSnapshot. The file is memory-mapped and every array is copied out of it in
+     * bulk, so a warm start costs a sequential read of the file rather than a replay of every open call. The restored
+     * system uses the compact union find and the site layout it was written with, and can be opened further.
+     *
+     * @param file snapshot file
+     *
+     * @return the restored system
+     *
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static Percolation readSnapshot(Path file) throws IOException {
+        try (SnapshotReader in = new SnapshotReader(file)) {
+            final ByteBuffer header = in.map(SNAPSHOT_HEADER_INTS * Integer.BYTES);
+            final int magic = header.getInt();
+            final int version = header.getInt();
+            final int n = header.getInt();
+            final int layout = header.getInt();
+            if ((magic != SNAPSHOT_MAGIC) || (version != SNAPSHOT_VERSION) || (n <= 0) ||
+                (n > MAX_SNAPSHOT_SIDE_LENGTH) || (layout < 0) || (layout >= SiteLayout.values().length)) {
+                throw new IOException(NOT_A_SNAPSHOT);
+            }
+
+            final Percolation percolation = new Percolation(n, UnionFindType.COMPACT, SiteLayout.values()[layout]);
+            percolation.clusters.openSitesCount = header.getInt();
+            percolation.clusters.clusterCount = header.getInt();
+            percolation.clusters.largestClusterSize = header.getInt();
+            percolation.clusters.percolates = header.getInt() != 0;
+            final CompactUnionFind compactUnionFind = (CompactUnionFind) percolation.clusters.unionFind;
+            compactUnionFind.restoreCount(header.getInt());
+
+            in.getLongs(percolation.clusters.openSites.words());
+            in.getInts(compactUnionFind.parentArray());
+            in.getInts(compactUnionFind.sizeArray());
+            in.getBytes(percolation.clusters.rootFlags);
+            readClusterSizes(in, percolation.clusters.sizeCounts, n * n);
+            if (in.remaining() != 0) {
+                throw new IOException(NOT_A_SNAPSHOT);
+            }
+            return percolation;
+        }
+    }
+
+    /**
+     * Reads the size, count pairs of a snapshot's cluster size histogram.
+     *
+     * @param in        snapshot positioned at the number of distinct sizes
+     * @param histogram empty histogram which receives the pairs
+     * @param sites     number of sites of the grid, the largest valid size
+     *
+     * @throws IOException if the pairs are truncated or out of range
+     */
+    private static void readClusterSizes(SnapshotReader in, ClusterSizeHistogram histogram, int sites)
+        throws IOException {
+        final int distinctSizes = in.map(Integer.BYTES).getInt();
+        if ((distinctSizes < 0) || (distinctSizes > sites) || (2L * distinctSizes * Integer.BYTES > in.remaining())) {
+            throw new IOException(NOT_A_SNAPSHOT);
+        }
+        final int[] pairs = new int[2 * distinctSizes];
+        in.getInts(pairs);
+        for (int i = 0; i < pairs.length; i += 2) {
+            if ((pairs[i] < 1) || (pairs[i] > sites) || (pairs[i + 1] < 1) || (histogram.count(pairs[i]) != 0)) {
+                throw new IOException(NOT_A_SNAPSHOT);
+            }
+            histogram.add(pairs[i], pairs[i + 1]);
+        }
     }
 
     /**
@@ -138,7 +585,8 @@ public class Percolation {
     }
 
     /**
-     * Maps a 2D coordinates input coming from the original grid, to a unique 1D index used by the union find class.
+     * Maps a 2D coordinates input coming from the original grid, to a unique 1D index used by the union find class
+     * and the openSites bit set.
      * <p>
      * Here we use a row major ordering approach.
      * <p>
@@ -150,15 +598,17 @@ public class Percolation {
      * In this specific case of percolation, the grid provided is of 1 to n range. And starts from (1,1).
      * <p>
      * However, we have to map this grid to a 0 to n-1 grid based on the UnionFind class standards. Thus, we will
-     * transform the 1D mapping above to: (n * (i - 1) + j).
+     * transform the 1D mapping above to: (n * (i - 1) + j - 1).
      * <p>
-     * That means that in a 25 by 25 grid. Starting coordinates(1,1) map to 1D coordinates as: (25 * (1 - 1) + 1) = 1
+     * That means that in a 25 by 25 grid. Starting coordinates(1,1) map to 1D coordinates as: (25 * (1 - 1) + 0) = 0
+     * <p>
+     * The mapping above is the default, row major, layout. Other layouts are delegated to the SiteLayout provided.
      *
      * @param row site row index provided
      * @param col site column index provided
      */
-    private int getUfIndex(int row, int col) {
-        return (gridSideLength * (row - 1)) + col;
+    private int getSiteIndex(int row, int col) {
+        return siteLayout.index(gridSideLength, row - 1, col - 1);
     }
 
     /**
@@ -203,15 +653,20 @@ public class Percolation {
 
         StdOut.println(LINE_SPLIT);
 
-        int siteOneCoordinates = 1;
-        int siteTwoCoordinates = 2;
+        int siteOneCoordinates = p.getSiteIndex(1, 1);
+        int siteTwoCoordinates = p.getSiteIndex(1, 2);
 
         StdOut.println("Number of open sites is : " + p.numberOfOpenSites());
 
         StdOut.println(LINE_SPLIT);
 
-        StdOut.println("Are (1, 1) and (1, 2) connected : " + p.weightedQuickUnionUF.connected(siteOneCoordinates,
-                                                                                               siteTwoCoordinates));
+        StdOut.println("Are (1, 1) and (1, 2) connected : " + p.clusters.unionFind.connected(siteOneCoordinates,
+                                                                                    siteTwoCoordinates));
+
+        StdOut.println(LINE_SPLIT);
+
+        StdOut.println("Number of clusters is : " + p.clusterCount());
+        StdOut.println("Largest cluster size is : " + p.largestClusterSize());
     }
 
 
@@ -1,43 +1,209 @@
 package com.kap.algorithmspartone.percolation;
 
 import edu.princeton.cs.algs4.StdOut;
-import edu.princeton.cs.algs4.StdStats;
 import edu.princeton.cs.algs4.StdRandom;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * @author Konstantinos Antoniou
  */
 public class PercolationStats {
 
+    private static final String INVALID_CONSTRUCTOR_INPUTS = "Invalid constructor inputs.";
+
+    // fewest trials the adaptive mode runs before it trusts the sample standard deviation
+    private static final int MIN_ADAPTIVE_TRIALS = 30;
+
+    // trials the adaptive mode hands to every worker between two checks of the stopping rule
+    private static final int ADAPTIVE_BATCH_PER_WORKER = 4;
+
     private final int experimentsNo;
-    private final double[] thresholds;
+    private final double mean;
+    private final double stddev;
     private static final double STDDEV = 1.96;
 
     /**
      * Constructor responsible for performing trials independent experiments on an n-by-n grid
+     * <p>
+     * The trials run sequentially on the calling thread. The seed of the experiment is drawn from StdRandom, so
+     * StdRandom.setSeed() still makes the results reproducible.
      *
      * @param n      size of the grid
      * @param trials number of trials
      */
     public PercolationStats(int n, int trials) {
-        if ((n <= 0) || (trials <= 0)) {
-            throw new IllegalArgumentException("Invalid constructor inputs.");
+        this(n, trials, StdRandom.uniform(Integer.MAX_VALUE), 1);
+    }
+
+    /**
+     * Constructor responsible for performing trials independent experiments on an n-by-n grid using the given number
+     * of worker threads.
+     * <p>
+     * Every trial draws its sites from its own random stream, seeded from the experiment seed by trial number. The
+     * thresholds are therefore identical for a given seed whatever the parallelism is.
+     *
+     * @param n           size of the grid
+     * @param trials      number of trials
+     * @param seed        experiment seed
+     * @param parallelism number of worker threads. 1 runs the trials on the calling thread.
+     */
+    public PercolationStats(int n, int trials, long seed, int parallelism) {
+        this(n, trials, seed, parallelism, TrialStrategy.REJECTION_SAMPLING);
+    }
+
+    /**
+     * Constructor responsible for performing trials independent experiments on an n-by-n grid using the given number
+     * of worker threads and the given way of picking sites.
+     *
+     * @param n           size of the grid
+     * @param trials      number of trials
+     * @param seed        experiment seed
+     * @param parallelism number of worker threads. 1 runs the trials on the calling thread.
+     * @param strategy    way every trial picks the next site to open
+     */
+    public PercolationStats(int n, int trials, long seed, int parallelism, TrialStrategy strategy) {
+        this(n, trials, seed, parallelism, strategy, RandomSourceType.SPLIT_MIX);
+    }
+
+    /**
+     * Constructor responsible for performing trials independent experiments on an n-by-n grid using the given number
+     * of worker threads, the given way of picking sites and the given random generator. Every worker owns its own
+     * generator, reseeded for every trial, so the trials never touch shared state.
+     *
+     * @param n                size of the grid
+     * @param trials           number of trials
+     * @param seed             experiment seed
+     * @param parallelism      number of worker threads. 1 runs the trials on the calling thread.
+     * @param strategy         way every trial picks the next site to open
+     * @param randomSourceType generator the trials draw their sites from
+     */
+    public PercolationStats(int n, int trials, long seed, int parallelism, TrialStrategy strategy,
+                            RandomSourceType randomSourceType) {
+        this(runFixedTrials(n, trials, seed, parallelism, strategy, randomSourceType));
+    }
+
+    /**
+     * Constructor responsible for performing trials independent experiments on an n-by-n grid using the fork-join
+     * pool provided. The pool is not shut down.
+     *
+     * @param n      size of the grid
+     * @param trials number of trials
+     * @param seed   experiment seed
+     * @param pool   pool which runs the trials
+     */
+    public PercolationStats(int n, int trials, long seed, ForkJoinPool pool) {
+        this(n, trials, seed, pool, TrialStrategy.REJECTION_SAMPLING);
+    }
+
+    /**
+     * Constructor responsible for performing trials independent experiments on an n-by-n grid using the fork-join
+     * pool provided and the given way of picking sites. The pool is not shut down.
+     *
+     * @param n        size of the grid
+     * @param trials   number of trials
+     * @param seed     experiment seed
+     * @param pool     pool which runs the trials
+     * @param strategy way every trial picks the next site to open
+     */
+    public PercolationStats(int n, int trials, long seed, ForkJoinPool pool, TrialStrategy strategy) {
+        this(n, trials, seed, pool, strategy, RandomSourceType.SPLIT_MIX);
+    }
+
+    /**
+     * Constructor responsible for performing trials independent experiments on an n-by-n grid using the fork-join
+     * pool provided, the given way of picking sites and the given random generator. The pool is not shut down.
+     *
+     * @param n                size of the grid
+     * @param trials           number of trials
+     * @param seed             experiment seed
+     * @param pool             pool which runs the trials
+     * @param strategy         way every trial picks the next site to open
+     * @param randomSourceType generator the trials draw their sites from
+     */
+    public PercolationStats(int n, int trials, long seed, ForkJoinPool pool, TrialStrategy strategy,
+                            RandomSourceType randomSourceType) {
+        this(runFixedTrials(n, trials, seed, pool, strategy, randomSourceType));
+    }
+
+    private PercolationStats(RunningStatistics statistics) {
+        experimentsNo = statistics.count();
+        mean = statistics.mean();
+        stddev = statistics.stddev();
+    }
+
+    /**
+     * Runs trials on an n-by-n grid until the 95% confidence interval of the threshold is at most halfWidth either
+     * side of the mean, or until maxTrials trials have run.
+     * <p>
+     * The mean and variance are updated online after every trial and the stopping rule is checked in trial number
+     * order, so for a given seed the result, including the number of trials, does not depend on the parallelism.
+     * Workers run small batches of trials between two checks. The trials of the last batch past the stopping point
+     * are discarded.
+     *
+     * @param n           size of the grid
+     * @param halfWidth   target half width of the 95% confidence interval
+     * @param maxTrials   most trials to run
+     * @param seed        experiment seed
+     * @param parallelism number of worker threads. 1 runs the trials on the calling thread.
+     * @param strategy    way every trial picks the next site to open
+     *
+     * @return statistics of the trials which were run
+     */
+    public static PercolationStats withTargetHalfWidth(int n, double halfWidth, int maxTrials, long seed,
+                                                       int parallelism, TrialStrategy strategy) {
+        return withTargetHalfWidth(n, halfWidth, maxTrials, seed, parallelism, strategy, RandomSourceType.SPLIT_MIX);
+    }
+
+    /**
+     * Runs trials on an n-by-n grid until the 95% confidence interval of the threshold is at most halfWidth either
+     * side of the mean, or until maxTrials trials have run, drawing sites from the given random generator.
+     *
+     * @param n                size of the grid
+     * @param halfWidth        target half width of the 95% confidence interval
+     * @param maxTrials        most trials to run
+     * @param seed             experiment seed
+     * @param parallelism      number of worker threads. 1 runs the trials on the calling thread.
+     * @param strategy         way every trial picks the next site to open
+     * @param randomSourceType generator the trials draw their sites from
+     *
+     * @return statistics of the trials which were run
+     */
+    public static PercolationStats withTargetHalfWidth(int n, double halfWidth, int maxTrials, long seed,
+                                                       int parallelism, TrialStrategy strategy,
+                                                       RandomSourceType randomSourceType) {
+        validateInputs(n, maxTrials, strategy, randomSourceType);
+        if ((parallelism <= 0) || !(halfWidth > 0.0)) {
+            throw new IllegalArgumentException(INVALID_CONSTRUCTOR_INPUTS);
         }
-        experimentsNo = trials;
-        thresholds = new double[experimentsNo];
-        for (int expNo = 0; expNo < experimentsNo; expNo++) {
-            final Percolation percolation = new Percolation(n);
-            int openSites = 0;
-            while (!percolation.percolates()) {
-                int i = StdRandom.uniform(1, n + 1);
-                int j = StdRandom.uniform(1, n + 1);
-                if (!percolation.isOpen(i, j)) {
-                    percolation.open(i, j);
-                    openSites++;
+
+        final int batchSize = Math.min(maxTrials, parallelism * ADAPTIVE_BATCH_PER_WORKER);
+        final RandomSource master = new SplitMixRandomSource(seed);
+        final long[] seeds = new long[batchSize];
+        final double[] thresholds = new double[batchSize];
+        final RunningStatistics statistics = new RunningStatistics();
+        // one workspace per thread for the whole run, however many batches it takes
+        final TrialWorkspaces workspaces = new TrialWorkspaces(n, strategy, randomSourceType);
+        final ForkJoinPool pool = (parallelism == 1) ? null : new ForkJoinPool(parallelism);
+        try {
+            while (statistics.count() < maxTrials) {
+                final int batch = Math.min(batchSize, maxTrials - statistics.count());
+                for (int expNo = 0; expNo < batch; expNo++) {
+                    seeds[expNo] = master.nextLong();
+                }
+                runTrials(workspaces, seeds, thresholds, batch, pool);
+                for (int expNo = 0; expNo < batch; expNo++) {
+                    statistics.add(thresholds[expNo]);
+                    if ((statistics.count() >= MIN_ADAPTIVE_TRIALS) && (statistics.halfWidth(STDDEV) <= halfWidth)) {
+                        return new PercolationStats(statistics);
+                    }
                 }
             }
-            final double percolationThreshold = (double) openSites / (n * n);
-            thresholds[expNo] = percolationThreshold;
+            return new PercolationStats(statistics);
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
         }
     }
 
@@ -45,14 +211,14 @@ public class PercolationStats {
      * @return sample mean of the percolation percolationThreshold
      */
     public double mean() {
-        return StdStats.mean(thresholds);
+        return mean;
     }
 
     /**
      * @return sample standard deviation of percolation percolationThreshold
      */
     public double stddev() {
-        return StdStats.stddev(thresholds);
+        return stddev;
     }
 
     /**
@@ -69,16 +235,112 @@ public class PercolationStats {
         return mean() + ((STDDEV * stddev()) / Math.sqrt(experimentsNo));
     }
 
+    /**
+     * @return number of trials the statistics are based on
+     */
+    public int trials() {
+        return experimentsNo;
+    }
+
+    private static RunningStatistics runFixedTrials(int n, int trials, long seed, int parallelism,
+                                                    TrialStrategy strategy, RandomSourceType randomSourceType) {
+        validateInputs(n, trials, strategy, randomSourceType);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(INVALID_CONSTRUCTOR_INPUTS);
+        }
+        final ForkJoinPool pool = (parallelism == 1) ? null : new ForkJoinPool(parallelism);
+        try {
+            return runFixedTrials(n, trials, seed, pool, strategy, randomSourceType);
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Runs a fixed number of trials and adds their thresholds to the statistics in trial number order.
+     *
+     * @param pool pool which runs the trials. null runs them on the calling thread.
+     */
+    private static RunningStatistics runFixedTrials(int n, int trials, long seed, ForkJoinPool pool,
+                                                    TrialStrategy strategy, RandomSourceType randomSourceType) {
+        validateInputs(n, trials, strategy, randomSourceType);
+        final long[] seeds = trialSeeds(seed, trials);
+        final double[] thresholds = new double[trials];
+        runTrials(new TrialWorkspaces(n, strategy, randomSourceType), seeds, thresholds, trials, pool);
+
+        final RunningStatistics statistics = new RunningStatistics();
+        for (double threshold : thresholds) {
+            statistics.add(threshold);
+        }
+        return statistics;
+    }
+
+    /**
+     * Runs the trials 0 to trials-1 of the seeds provided.
+     *
+     * @param workspaces workspaces of the experiment the trials belong to
+     * @param pool       pool which runs the trials. null runs them on the calling thread.
+     */
+    private static void runTrials(TrialWorkspaces workspaces, long[] seeds, double[] thresholds,
+                                  int trials, ForkJoinPool pool) {
+        if (pool == null) {
+            workspaces.current().run(seeds, thresholds, 0, trials);
+        } else {
+            pool.invoke(new PercolationTrialTask(workspaces, seeds, thresholds, 0, trials,
+                                                 PercolationTrialTask.grainSize(trials, pool.getParallelism())));
+        }
+    }
+
+    /**
+     * Derives one seed per trial from the experiment seed. Seeds depend only on the trial number, never on which
+     * worker runs the trial.
+     *
+     * @param seed   experiment seed
+     * @param trials number of trials
+     *
+     * @return the seeds of the trials
+     */
+    private static long[] trialSeeds(long seed, int trials) {
+        final RandomSource master = new SplitMixRandomSource(seed);
+        final long[] seeds = new long[trials];
+        for (int expNo = 0; expNo < trials; expNo++) {
+            seeds[expNo] = master.nextLong();
+        }
+        return seeds;
+    }
+
+    private static void validateInputs(int n, int trials, TrialStrategy strategy, RandomSourceType randomSourceType) {
+        if ((n <= 0) || (trials <= 0) || (strategy == null) || (randomSourceType == null)) {
+            throw new IllegalArgumentException(INVALID_CONSTRUCTOR_INPUTS);
+        }
+    }
+
     /**
      * Test client
      *
-     * @param args arguments provided
+     * @param args arguments provided. n, trials and optionally the number of worker threads, the seed, the trial
+     *             strategy and the random generator. A trials argument with a decimal point, such as 0.001, is
+     *             taken as the target half width of the 95% confidence interval instead, with at most a million
+     *             trials.
      */
     public static void main(String[] args) {
         int n = Integer.parseInt(args[0]);
-        int trials = Integer.parseInt(args[1]);
-        PercolationStats ps = new PercolationStats(n, trials);
+        int parallelism = (args.length > 2) ? Integer.parseInt(args[2]) : 1;
+        long seed = (args.length > 3) ? Long.parseLong(args[3]) : StdRandom.uniform(Integer.MAX_VALUE);
+        TrialStrategy strategy = (args.length > 4) ? TrialStrategy.valueOf(args[4]) : TrialStrategy.REJECTION_SAMPLING;
+        RandomSourceType randomSourceType = (args.length > 5) ? RandomSourceType.valueOf(args[5])
+                                                              : RandomSourceType.SPLIT_MIX;
+        PercolationStats ps;
+        if (args[1].contains(".")) {
+            ps = withTargetHalfWidth(n, Double.parseDouble(args[1]), 1000000, seed, parallelism, strategy,
+                                     randomSourceType);
+        } else {
+            ps = new PercolationStats(n, Integer.parseInt(args[1]), seed, parallelism, strategy, randomSourceType);
+        }
 
+        StdOut.println("trials                  = " + ps.trials());
         StdOut.println("mean                    = " + ps.mean());
         StdOut.println("stddev                  = " + ps.stddev());
         StdOut.println("95% confidence interval = " + "[" + ps.confidenceLo() + "," + ps.confidenceHi() + "]");
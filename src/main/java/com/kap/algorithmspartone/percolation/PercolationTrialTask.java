@@ -0,0 +1,64 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task which splits a range of percolation trials in halves until the range is small enough to be run by a
+ * single worker.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class PercolationTrialTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int TASKS_PER_WORKER = 8;
+
+    private final transient TrialWorkspaces workspaces;
+    private final long[] seeds;
+    private final double[] thresholds;
+    private final int from;
+    private final int to;
+    private final int grainSize;
+
+    /**
+     * @param workspaces workspaces of the experiment the trials belong to
+     * @param seeds      per trial seeds
+     * @param thresholds array which receives the percolation threshold of every trial
+     * @param from       first trial number (inclusive)
+     * @param to         last trial number (exclusive)
+     * @param grainSize  largest range of trials that is not split any further
+     */
+    PercolationTrialTask(TrialWorkspaces workspaces, long[] seeds, double[] thresholds, int from, int to,
+                         int grainSize) {
+        this.workspaces = workspaces;
+        this.seeds = seeds;
+        this.thresholds = thresholds;
+        this.from = from;
+        this.to = to;
+        this.grainSize = grainSize;
+    }
+
+    /**
+     * Picks a grain size which leaves a few tasks per worker so that idle workers can steal work from slow ones.
+     *
+     * @param trials      number of trials
+     * @param parallelism number of workers
+     *
+     * @return the grain size
+     */
+    static int grainSize(int trials, int parallelism) {
+        return Math.max(1, trials / (parallelism * TASKS_PER_WORKER));
+    }
+
+    @Override
+    protected void compute() {
+        if ((to - from) <= grainSize) {
+            workspaces.current().run(seeds, thresholds, from, to);
+        } else {
+            final int mid = (from + to) >>> 1;
+            invokeAll(new PercolationTrialTask(workspaces, seeds, thresholds, from, mid, grainSize),
+                      new PercolationTrialTask(workspaces, seeds, thresholds, mid, to, grainSize));
+        }
+    }
+}
@@ -14,7 +14,11 @@ package com.kap.algorithmspartone.percolation;
  *
  *  After each site is opened, it draws full sites in light blue,
  *  open sites (that aren't full) in white, and blocked sites in black,
- *  with with site (1, 1) in the upper left-hand corner.
+ *  with with site (1, 1) in the upper left-hand corner. Only the squares
+ *  whose state changed are redrawn.
+ *
+ *  See HeadlessPercolationVisualizer to render input files to PNG images
+ *  on machines without a display.
  *
  ******************************************************************************/
 
@@ -53,7 +57,13 @@ public class PercolationVisualizer {
             }
         }
 
-        // write status text
+        drawStatus(perc, n, opened);
+    }
+
+    // write status text over the previous one
+    static void drawStatus(Percolation perc, int n, int opened) {
+        StdDraw.setPenColor(StdDraw.WHITE);
+        StdDraw.filledRectangle(n / 2.0, -0.025 * n, 0.55 * n, 0.025 * n);
         StdDraw.setFont(new Font("SansSerif", Font.PLAIN, 12));
         StdDraw.setPenColor(StdDraw.BLACK);
         StdDraw.text(0.25 * n, -0.025 * n, opened + " open sites");
@@ -62,7 +72,20 @@ public class PercolationVisualizer {
         } else {
             StdDraw.text(0.75 * n, -0.025 * n, "does not percolate");
         }
+    }
+
+    // repaints only the squares whose state changed since the last frame
+    static final class StdDrawRenderer extends IncrementalPercolationRenderer {
+
+        StdDrawRenderer(int n) {
+            super(n);
+        }
 
+        @Override
+        protected void paintCell(int row, int col, byte state) {
+            StdDraw.setPenColor((state == FULL) ? StdDraw.BOOK_LIGHT_BLUE : StdDraw.WHITE);
+            StdDraw.filledSquare(col - 0.5, gridSideLength() - row + 0.5, 0.45);
+        }
     }
 
     public static void main(String[] args) {
@@ -72,8 +95,9 @@ public class PercolationVisualizer {
         // turn on animation mode
         StdDraw.enableDoubleBuffering();
 
-        // repeatedly read in sites to open and draw resulting system
+        // repeatedly read in sites to open and draw the squares that changed
         Percolation perc = new Percolation(n);
+        StdDrawRenderer renderer = new StdDrawRenderer(n);
         draw(perc, n);
         StdDraw.show();
         StdDraw.pause(DELAY);
@@ -81,7 +105,8 @@ public class PercolationVisualizer {
             int i = in.readInt();
             int j = in.readInt();
             perc.open(i, j);
-            draw(perc, n);
+            renderer.opened(perc, i, j);
+            drawStatus(perc, n, renderer.openSites());
             StdDraw.show();
             StdDraw.pause(DELAY);
         }
@@ -0,0 +1,44 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Site percolation on a rectangular grid of m rows and n columns with periodic horizontal boundaries: column n is
+ * joined to column 1, so the grid is the surface of a cylinder. Each site has 4 horizontal and vertical neighbours.
+ * The system percolates when an open path joins row 1 to row m.
+ *
+ * @author Konstantinos Antoniou
+ */
+public final class PeriodicPercolation extends GridLatticePercolation {
+
+    /**
+     * @param m number of rows
+     * @param n number of columns
+     */
+    public PeriodicPercolation(int m, int n) {
+        super(m, n);
+    }
+
+    /**
+     * Opens the site provided. Opening a site which is already open has no effect.
+     *
+     * @param row site row index provided, 1 to m
+     * @param col site column index provided, 1 to n
+     */
+    @Override
+    public void open(int row, int col) {
+        final int site = index(row, col);
+        if (!openSiteInRow(site, row)) {
+            return;
+        }
+        final int rows = rows();
+        final int cols = cols();
+        final int rowStart = site - col + 1;
+        joinIfOpen(site, (col > 1) ? (site - 1) : (rowStart + cols - 1));
+        joinIfOpen(site, (col < cols) ? (site + 1) : rowStart);
+        if (row > 1) {
+            joinIfOpen(site, site - cols);
+        }
+        if (row < rows) {
+            joinIfOpen(site, site + cols);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Random number generator owned by a single worker. Unlike StdRandom it holds no shared state, so workers which each
+ * own one never contend with each other.
+ * <p>
+ * Subclasses provide 64 random bits at a time. Bounded integers are drawn with Lemire's multiply-shift method, which
+ * needs a single multiplication and almost never a division or a second draw.
+ *
+ * @author Konstantinos Antoniou
+ */
+abstract class RandomSource {
+
+    /**
+     * Restarts the generator from the seed provided.
+     *
+     * @param seed seed
+     */
+    abstract void reseed(long seed);
+
+    /**
+     * @return 64 uniformly random bits
+     */
+    abstract long nextLong();
+
+    /**
+     * @return 32 uniformly random bits
+     */
+    final int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Draws a uniform integer in [0, bound) with Lemire's nearly divisionless method. The high 32 bits of the 64 bit
+     * product of a random int and the bound are uniform unless the low 32 bits fall in the small biased zone, in which
+     * case the draw is repeated.
+     *
+     * @param bound exclusive upper bound. Must be positive.
+     *
+     * @return a uniform integer in [0, bound)
+     */
+    final int nextInt(int bound) {
+        long product = (nextInt() & 0xFFFFFFFFL) * bound;
+        long low = product & 0xFFFFFFFFL;
+        if (low < bound) {
+            final long threshold = (0x100000000L - bound) % bound;
+            while (low < threshold) {
+                product = (nextInt() & 0xFFFFFFFFL) * bound;
+                low = product & 0xFFFFFFFFL;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * @return a uniform double in [0, 1)
+     */
+    final double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * SplitMix64 finaliser, also used to expand seeds into full generator states.
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,36 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Random generators the percolation experiments can draw their sites from. Every worker owns its own generator.
+ *
+ * @author Konstantinos Antoniou
+ */
+public enum RandomSourceType {
+
+    /**
+     * SplitMix64, the generator of java.util.SplittableRandom. This is the default.
+     */
+    SPLIT_MIX {
+        @Override
+        RandomSource create(long seed) {
+            return new SplitMixRandomSource(seed);
+        }
+    },
+
+    /**
+     * xoroshiro128++.
+     */
+    XOROSHIRO {
+        @Override
+        RandomSource create(long seed) {
+            return new XoroshiroRandomSource(seed);
+        }
+    };
+
+    /**
+     * @param seed seed
+     *
+     * @return a new generator of this type
+     */
+    abstract RandomSource create(long seed);
+}
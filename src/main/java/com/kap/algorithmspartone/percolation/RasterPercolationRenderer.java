@@ -0,0 +1,80 @@
+package com.kap.algorithmspartone.percolation;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Renders a percolation system straight into the pixels of a BufferedImage, without any window. Full sites are light
+ * blue, open sites white and blocked sites black, with site (1, 1) in the upper left-hand corner.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class RasterPercolationRenderer extends IncrementalPercolationRenderer {
+
+    private static final int BLACK = 0x000000;
+    private static final int WHITE = 0xFFFFFF;
+    private static final int LIGHT_BLUE = 0x67C6F3;
+
+    private static final String INVALID_CELL_SIZE = "Cell size provided is invalid. Valid input should be an integer "
+                                                    + "bigger than zero";
+
+    private final BufferedImage image;
+    private final int[] pixels;
+    private final int cellSize;
+    private final int squareSize;
+
+    /**
+     * @param n        grid side length of the percolation systems rendered
+     * @param cellSize width and height of a cell in pixels
+     */
+    public RasterPercolationRenderer(int n, int cellSize) {
+        super(n);
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException(INVALID_CELL_SIZE);
+        }
+        this.cellSize = cellSize;
+        // leave a black border of 10% around every square, as PercolationVisualizer does, once the cells are big
+        // enough to show it
+        squareSize = (cellSize >= 5) ? (cellSize - Math.max(1, cellSize / 10)) : cellSize;
+        image = new BufferedImage(n * cellSize, n * cellSize, BufferedImage.TYPE_INT_RGB);
+        pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        Arrays.fill(pixels, BLACK);
+    }
+
+    @Override
+    protected void paintCell(int row, int col, byte state) {
+        final int color = (state == FULL) ? LIGHT_BLUE : WHITE;
+        final int width = image.getWidth();
+        final int offset = (cellSize - squareSize) / 2;
+        final int x = ((col - 1) * cellSize) + offset;
+        final int y = ((row - 1) * cellSize) + offset;
+        for (int dy = 0; dy < squareSize; dy++) {
+            final int start = ((y + dy) * width) + x;
+            Arrays.fill(pixels, start, start + squareSize, color);
+        }
+    }
+
+    /**
+     * @return the image rendered so far. Later calls to opened() keep drawing into it.
+     */
+    public BufferedImage image() {
+        return image;
+    }
+
+    /**
+     * Writes the image rendered so far as a PNG file.
+     *
+     * @param file target file
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void writePng(File file) throws IOException {
+        if (!ImageIO.write(image, "png", file)) {
+            throw new IOException("No PNG writer available.");
+        }
+    }
+}
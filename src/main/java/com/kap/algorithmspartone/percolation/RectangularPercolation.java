@@ -0,0 +1,46 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Site percolation on a rectangular grid of m rows and n columns, each site joined to its 4 horizontal and vertical
+ * neighbours. The system percolates when an open path joins row 1 to row m.
+ *
+ * @author Konstantinos Antoniou
+ */
+public final class RectangularPercolation extends GridLatticePercolation {
+
+    /**
+     * @param m number of rows
+     * @param n number of columns
+     */
+    public RectangularPercolation(int m, int n) {
+        super(m, n);
+    }
+
+    /**
+     * Opens the site provided. Opening a site which is already open has no effect.
+     *
+     * @param row site row index provided, 1 to m
+     * @param col site column index provided, 1 to n
+     */
+    @Override
+    public void open(int row, int col) {
+        final int site = index(row, col);
+        if (!openSiteInRow(site, row)) {
+            return;
+        }
+        final int rows = rows();
+        final int cols = cols();
+        if (col > 1) {
+            joinIfOpen(site, site - 1);
+        }
+        if (col < cols) {
+            joinIfOpen(site, site + 1);
+        }
+        if (row > 1) {
+            joinIfOpen(site, site - cols);
+        }
+        if (row < rows) {
+            joinIfOpen(site, site + cols);
+        }
+    }
+}
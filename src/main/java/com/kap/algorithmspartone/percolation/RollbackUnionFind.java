@@ -0,0 +1,140 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.util.Arrays;
+
+/**
+ * Union find whose unions can be undone in reverse order.
+ * <p>
+ * Components are linked by rank and paths are never compressed, so a union changes exactly one parent and at most one
+ * rank, and finds stay O(log n). While a checkpoint is open, every successful union pushes the linked child on a
+ * history stack (bit-inverted when the rank of the new root grew), which is all rollback needs to restore the previous
+ * forest. Unions made with no checkpoint open cannot be rolled back and record nothing.
+ * <p>
+ * Site indices are not validated.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class RollbackUnionFind implements UnionFind {
+
+    private final int[] parent;
+    private final int[] size;
+    private final byte[] rank;
+    private final IntStack history = new IntStack();
+    private int count;
+    private int openCheckpoints;
+
+    /**
+     * Initializes n sites, each one in its own component.
+     *
+     * @param n number of sites
+     */
+    RollbackUnionFind(int n) {
+        parent = new int[n];
+        size = new int[n];
+        rank = new byte[n];
+        reset();
+    }
+
+    @Override
+    public int find(int p) {
+        while (parent[p] != p) {
+            p = parent[p];
+        }
+        return p;
+    }
+
+    @Override
+    public void union(int p, int q) {
+        int rootP = find(p);
+        int rootQ = find(q);
+        if (rootP == rootQ) {
+            return;
+        }
+
+        if (rank[rootP] < rank[rootQ]) {
+            final int swap = rootP;
+            rootP = rootQ;
+            rootQ = swap;
+        }
+        parent[rootQ] = rootP;
+        size[rootP] += size[rootQ];
+        final boolean rankGrew = rank[rootP] == rank[rootQ];
+        if (rankGrew) {
+            rank[rootP]++;
+        }
+        if (openCheckpoints > 0) {
+            history.push(rankGrew ? ~rootQ : rootQ);
+        }
+        count--;
+    }
+
+    @Override
+    public boolean connected(int p, int q) {
+        return find(p) == find(q);
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public int size(int root) {
+        return size[root];
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        Arrays.fill(size, 1);
+        Arrays.fill(rank, (byte) 0);
+        history.clear();
+        openCheckpoints = 0;
+        count = parent.length;
+    }
+
+    /**
+     * Isolates a site. Isolations are not recorded, so they must not be made while a checkpoint is open.
+     */
+    @Override
+    public void isolate(int p) {
+        if (parent[p] != p) {
+            parent[p] = p;
+            count++;
+        }
+        size[p] = 1;
+        rank[p] = 0;
+    }
+
+    /**
+     * Opens a checkpoint. Unions are recorded from now on, until every open checkpoint has been rolled back.
+     *
+     * @return the number of unions recorded so far, to be handed back to rollback
+     */
+    int checkpoint() {
+        openCheckpoints++;
+        return history.size();
+    }
+
+    /**
+     * Undoes every union made since the checkpoint provided, the most recent one first, and closes that checkpoint.
+     *
+     * @param checkpoint value returned by the most recent checkpoint call not rolled back yet
+     */
+    void rollback(int checkpoint) {
+        openCheckpoints--;
+        while (history.size() > checkpoint) {
+            final int entry = history.pop();
+            final int child = (entry < 0) ? ~entry : entry;
+            final int root = parent[child];
+            if (entry < 0) {
+                rank[root]--;
+            }
+            size[root] -= size[child];
+            parent[child] = child;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Sample mean and variance updated one value at a time with Welford's algorithm, which stays accurate however many
+ * values are added and needs no storage for them.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class RunningStatistics {
+
+    private int count;
+    private double mean;
+    private double squaredDeviations;
+
+    /**
+     * Adds a value to the sample.
+     *
+     * @param value value to add
+     */
+    void add(double value) {
+        count++;
+        final double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+    }
+
+    /**
+     * @return number of values added
+     */
+    int count() {
+        return count;
+    }
+
+    /**
+     * @return sample mean. NaN if no value was added.
+     */
+    double mean() {
+        return (count == 0) ? Double.NaN : mean;
+    }
+
+    /**
+     * @return sample standard deviation. NaN if less than two values were added.
+     */
+    double stddev() {
+        return Math.sqrt(squaredDeviations / (count - 1));
+    }
+
+    /**
+     * @param z number of standard errors
+     *
+     * @return half width of the confidence interval of the mean which spans z standard errors either side
+     */
+    double halfWidth(double z) {
+        return (z * stddev()) / Math.sqrt(count);
+    }
+}
@@ -0,0 +1,85 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size set of sites packed 64 to a long word. Site indices are not validated.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class SiteBitSet {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    private final long[] words;
+
+    /**
+     * Creates an empty set able to hold the sites 0 to sites-1.
+     *
+     * @param sites number of sites
+     */
+    SiteBitSet(int sites) {
+        words = new long[wordsFor(sites)];
+    }
+
+    /**
+     * @return the words themselves, for snapshots to read and fill in place
+     */
+    long[] words() {
+        return words;
+    }
+
+    /**
+     * @param sites number of sites
+     *
+     * @return the number of words needed to hold the sites
+     */
+    static int wordsFor(int sites) {
+        return (int) ((sites + 63L) >>> ADDRESS_BITS_PER_WORD);
+    }
+
+    /**
+     * @param site site index
+     *
+     * @return true if the site is in the set. false otherwise.
+     */
+    boolean get(int site) {
+        return (words[site >>> ADDRESS_BITS_PER_WORD] & (1L << site)) != 0;
+    }
+
+    /**
+     * Adds the site to the set.
+     *
+     * @param site site index
+     */
+    void set(int site) {
+        words[site >>> ADDRESS_BITS_PER_WORD] |= 1L << site;
+    }
+
+    /**
+     * Removes the site from the set.
+     *
+     * @param site site index
+     */
+    void clear(int site) {
+        words[site >>> ADDRESS_BITS_PER_WORD] &= ~(1L << site);
+    }
+
+    /**
+     * Removes every site from the set.
+     */
+    void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * @return number of sites in the set, counted a word at a time
+     */
+    int cardinality() {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+}
@@ -0,0 +1,255 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.util.Arrays;
+
+/**
+ * Open sites and clusters of a percolation system, whatever its topology: the open sites bit set, a union find over
+ * the sites, the boundary flags on the root of every cluster and the cluster statistics.
+ * <p>
+ * This is the kernel shared by Percolation and the LatticePercolation hierarchy. The owner maps its coordinates to
+ * site indices, opens a site with the flags of the boundaries it lies on and joins it to its open neighbours; this
+ * class keeps the union find, the flags, the counters and the cluster size histogram consistent. While journaling is
+ * on, every new cluster and every merge is also recorded so that undo can take it back.
+ * <p>
+ * Site indices are not validated. The fields are read directly by the owners, which also write the counters back
+ * when they restore a checkpoint or a snapshot.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class SiteClusters {
+
+    // kinds of undo journal entries, pushed after their operands
+    private static final int OPENED = 0;
+    private static final int MERGED = 1;
+
+    // marks the sites of a cluster being split, kept next to the boundary flags until the site is isolated
+    private static final byte VISITED = 4;
+
+    final UnionFind unionFind;
+    final SiteBitSet openSites;
+    final byte[] rootFlags;
+    final ClusterSizeHistogram sizeCounts = new ClusterSizeHistogram();
+    private final IntStack journal = new IntStack();
+    boolean journaling;
+    int openSitesCount;
+    int clusterCount;
+    int largestClusterSize;
+    boolean percolates;
+
+    /**
+     * @param unionFind union find over the sites, every site in its own component
+     * @param capacity  number of site indices
+     */
+    SiteClusters(UnionFind unionFind, int capacity) {
+        this.unionFind = unionFind;
+        openSites = new SiteBitSet(capacity);
+        rootFlags = new byte[capacity];
+    }
+
+    /**
+     * Opens a site as a cluster of its own. Its neighbours are joined by the caller.
+     *
+     * @param site  site index
+     * @param flags boundaries the site lies on
+     *
+     * @return false if the site was already open
+     */
+    boolean open(int site, byte flags) {
+        if (openSites.get(site)) {
+            return false;
+        }
+        openSites.set(site);
+        openSitesCount++;
+        addCluster(site, flags);
+        return true;
+    }
+
+    /**
+     * Counts an open site as a cluster of its own and sets its flags.
+     *
+     * @param site  site index
+     * @param flags boundaries the site lies on
+     */
+    void addCluster(int site, byte flags) {
+        clusterCount++;
+        sizeCounts.increment(1);
+        largestClusterSize = Math.max(largestClusterSize, 1);
+        rootFlags[site] = flags;
+        percolates = percolates || BoundaryFlags.spans(flags);
+        if (journaling) {
+            journal.push(site);
+            journal.push(OPENED);
+        }
+    }
+
+    /**
+     * Joins an open site to a neighbour if the neighbour is open.
+     *
+     * @param site      index of an open site
+     * @param neighbour index of a neighbouring site
+     */
+    void joinIfOpen(int site, int neighbour) {
+        if (openSites.get(neighbour)) {
+            join(site, neighbour);
+        }
+    }
+
+    /**
+     * Joins the clusters of two open sites and updates the flags of the resulting root and the cluster statistics.
+     *
+     * @param p index of an open site
+     * @param q index of an open site
+     */
+    void join(int p, int q) {
+        final int rootP = unionFind.find(p);
+        final int rootQ = unionFind.find(q);
+        if (rootP == rootQ) {
+            return;
+        }
+        final int sizeP = unionFind.size(rootP);
+        final int sizeQ = unionFind.size(rootQ);
+        final byte flags = BoundaryFlags.merge(rootFlags[rootP], rootFlags[rootQ]);
+
+        unionFind.union(rootP, rootQ);
+        final int root = unionFind.find(rootP);
+        if (journaling) {
+            journal.push(root);
+            journal.push(rootFlags[root]);
+            journal.push(sizeP);
+            journal.push(sizeQ);
+            journal.push(MERGED);
+        }
+        rootFlags[root] = flags;
+        percolates = percolates || BoundaryFlags.spans(flags);
+
+        clusterCount--;
+        sizeCounts.decrement(sizeP);
+        sizeCounts.decrement(sizeQ);
+        sizeCounts.increment(sizeP + sizeQ);
+        largestClusterSize = Math.max(largestClusterSize, sizeP + sizeQ);
+    }
+
+    boolean isOpen(int site) {
+        return openSites.get(site);
+    }
+
+    boolean isFull(int site) {
+        return openSites.get(site) && BoundaryFlags.isFull(rootFlags[unionFind.find(site)]);
+    }
+
+    /**
+     * @param site site index
+     *
+     * @return number of sites in the cluster of the site. 0 if the site is blocked.
+     */
+    int clusterSize(int site) {
+        if (!openSites.get(site)) {
+            return 0;
+        }
+        return unionFind.size(unionFind.find(site));
+    }
+
+    /**
+     * Blocks an open site and removes its cluster from the cluster statistics. The owner then splits what is left of
+     * the cluster: it collects the remaining sites with markVisited, isolates them and the blocked site, adds and joins
+     * them again and finally calls refreshLargestClusterSize. Must not be called while journaling.
+     *
+     * @param site index of an open site
+     *
+     * @return true if the cluster spanned the system, in which case the owner recomputes percolates
+     */
+    boolean detach(int site) {
+        final int root = unionFind.find(site);
+        sizeCounts.decrement(unionFind.size(root));
+        clusterCount--;
+        openSites.clear(site);
+        openSitesCount--;
+        return BoundaryFlags.spans(rootFlags[root]);
+    }
+
+    /**
+     * @param site site index
+     *
+     * @return false if the site was already marked since it was last isolated
+     */
+    boolean markVisited(int site) {
+        if ((rootFlags[site] & VISITED) != 0) {
+            return false;
+        }
+        rootFlags[site] |= VISITED;
+        return true;
+    }
+
+    /**
+     * Puts a site back in its own component and clears its flags, without touching the cluster statistics.
+     *
+     * @param site site index
+     */
+    void isolate(int site) {
+        unionFind.isolate(site);
+        rootFlags[site] = 0;
+    }
+
+    /**
+     * Recomputes the largest cluster size from the histogram, after a cluster was split.
+     */
+    void refreshLargestClusterSize() {
+        largestClusterSize = sizeCounts.largestSize();
+    }
+
+    /**
+     * @return number of journal entries, to be handed back to undo
+     */
+    int journalSize() {
+        return journal.size();
+    }
+
+    /**
+     * Takes back, the most recent first, the clusters and merges journaled since the journal size provided: blocks
+     * the sites opened since then and restores the root flags and the histogram. The union find and the counters are
+     * restored by the caller.
+     *
+     * @param journalSize value returned by journalSize
+     */
+    void undo(int journalSize) {
+        while (journal.size() > journalSize) {
+            if (journal.pop() == OPENED) {
+                final int site = journal.pop();
+                openSites.clear(site);
+                rootFlags[site] = 0;
+                sizeCounts.decrement(1);
+            } else {
+                final int sizeQ = journal.pop();
+                final int sizeP = journal.pop();
+                final byte flags = (byte) journal.pop();
+                rootFlags[journal.pop()] = flags;
+                sizeCounts.decrement(sizeP + sizeQ);
+                sizeCounts.increment(sizeP);
+                sizeCounts.increment(sizeQ);
+            }
+        }
+    }
+
+    /**
+     * Forgets every cluster but keeps the open sites, so that the owner can add and join them again.
+     */
+    void clearClusters() {
+        unionFind.reset();
+        Arrays.fill(rootFlags, (byte) 0);
+        sizeCounts.clear();
+        clusterCount = 0;
+        largestClusterSize = 0;
+        percolates = false;
+    }
+
+    /**
+     * Blocks every site and forgets the journal.
+     */
+    void reset() {
+        openSites.clear();
+        clearClusters();
+        journal.clear();
+        journaling = false;
+        openSitesCount = 0;
+    }
+}
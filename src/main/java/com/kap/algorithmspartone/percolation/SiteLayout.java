@@ -0,0 +1,71 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Ways a Percolation can lay its sites out in the union find and in the open sites bit set.
+ * <p>
+ * Indices are computed from 0 based rows and columns.
+ *
+ * @author Konstantinos Antoniou
+ */
+public enum SiteLayout {
+
+    /**
+     * Row after row. The neighbours above and below a site are n slots away, so on large grids the vertical unions
+     * land on a different cache line, and usually on a different page, from the site itself.
+     */
+    ROW_MAJOR {
+        @Override
+        int capacity(int n) {
+            return n * n;
+        }
+
+        @Override
+        int index(int n, int row, int col) {
+            return (n * row) + col;
+        }
+    },
+
+    /**
+     * 8 by 8 tiles stored row after row, with the 64 sites of a tile in Z-order (Morton order). A tile fills exactly
+     * one word of the open sites bit set and four cache lines of a union find int array, so three of the four
+     * neighbours of a site are usually found in the same tile and the fourth in the adjacent one. The grid is padded
+     * to a multiple of 8; padding sites are never opened.
+     */
+    TILED_Z_ORDER {
+        @Override
+        int capacity(int n) {
+            final int tiles = (n + TILE_MASK) >>> TILE_SHIFT;
+            return tiles * tiles * TILE_SITES;
+        }
+
+        @Override
+        int index(int n, int row, int col) {
+            final int tilesPerRow = (n + TILE_MASK) >>> TILE_SHIFT;
+            final int tile = ((row >>> TILE_SHIFT) * tilesPerRow) + (col >>> TILE_SHIFT);
+            return (tile << (2 * TILE_SHIFT)) | (SPREAD[row & TILE_MASK] << 1) | SPREAD[col & TILE_MASK];
+        }
+    };
+
+    private static final int TILE_SHIFT = 3;
+    private static final int TILE_MASK = (1 << TILE_SHIFT) - 1;
+    private static final int TILE_SITES = 1 << (2 * TILE_SHIFT);
+
+    // the 3 bits of a coordinate spread out to every other bit, ready to be interleaved
+    private static final int[] SPREAD = {0, 1, 4, 5, 16, 17, 20, 21};
+
+    /**
+     * @param n grid side length
+     *
+     * @return number of slots the layout needs for an n-by-n grid
+     */
+    abstract int capacity(int n);
+
+    /**
+     * @param n   grid side length
+     * @param row 0 based row
+     * @param col 0 based column
+     *
+     * @return slot of the site in the union find and in the open sites bit set
+     */
+    abstract int index(int n, int row, int col);
+}
@@ -0,0 +1,101 @@
+package com.kap.algorithmspartone.percolation;
+
+import edu.princeton.cs.algs4.In;
+import edu.princeton.cs.algs4.StdOut;
+
+import java.util.Arrays;
+
+/**
+ * Order in which the sites of an n-by-n grid are opened, as read from a file holding the grid side length followed by
+ * row and column pairs.
+ * <p>
+ * Compilation: javac com.kap.algorithmspartone.percolation.SiteOpeningLog.java
+ * <p>
+ * Execution: java com.kap.algorithmspartone.percolation.SiteOpeningLog input.txt
+ * <p>
+ * Dependencies: com.kap.algorithmspartone.percolation.Percolation.java In.java
+ *
+ * @author Konstantinos Antoniou
+ */
+public class SiteOpeningLog {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int gridSideLength;
+    private final int[] rows;
+    private final int[] cols;
+
+    private SiteOpeningLog(int gridSideLength, int[] rows, int[] cols) {
+        this.gridSideLength = gridSideLength;
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    /**
+     * Reads the whole input into two int arrays. The indices are not validated here; Percolation validates them once
+     * per batch.
+     *
+     * @param in input holding the grid side length and the row and column pairs
+     *
+     * @return the log
+     */
+    public static SiteOpeningLog read(In in) {
+        final int n = in.readInt();
+        int[] rows = new int[INITIAL_CAPACITY];
+        int[] cols = new int[INITIAL_CAPACITY];
+        int steps = 0;
+        while (!in.isEmpty()) {
+            if (steps == rows.length) {
+                rows = Arrays.copyOf(rows, 2 * steps);
+                cols = Arrays.copyOf(cols, 2 * steps);
+            }
+            rows[steps] = in.readInt();
+            cols[steps] = in.readInt();
+            steps++;
+        }
+        return new SiteOpeningLog(n, Arrays.copyOf(rows, steps), Arrays.copyOf(cols, steps));
+    }
+
+    /**
+     * @return grid side length
+     */
+    public int gridSideLength() {
+        return gridSideLength;
+    }
+
+    /**
+     * @return number of openings
+     */
+    public int steps() {
+        return rows.length;
+    }
+
+    /**
+     * @return row index of the site opened at every step. The array is the one held by the log, not a copy.
+     */
+    public int[] rows() {
+        return rows;
+    }
+
+    /**
+     * @return column index of the site opened at every step. The array is the one held by the log, not a copy.
+     */
+    public int[] cols() {
+        return cols;
+    }
+
+    /**
+     * Test client. Takes the name of an input file in the format read by PercolationVisualizer, replays it through
+     * Percolation in one batch and prints the step at which the system percolated.
+     *
+     * @param args arguments array
+     */
+    public static void main(String[] args) {
+        SiteOpeningLog log = read(new In(args[0]));
+        Percolation perc = new Percolation(log.gridSideLength());
+        int step = perc.replay(log.rows(), log.cols());
+
+        StdOut.println(perc.numberOfOpenSites() + " open sites after " + log.steps() + " steps, "
+                       + ((step > 0) ? ("percolated at step " + step) : "does not percolate"));
+    }
+}
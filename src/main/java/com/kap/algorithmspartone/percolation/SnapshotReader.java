@@ -0,0 +1,83 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the little endian values of a snapshot by memory-mapping the file region after region. Arrays are copied
+ * straight out of the page cache with bulk gets; a region is never larger than 1 GB, so files beyond the 2 GB limit of
+ * a single mapping can be read as well.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class SnapshotReader implements Closeable {
+
+    private static final String TRUNCATED_SNAPSHOT = "Snapshot file ends before the data it describes.";
+
+    private static final int MAX_REGION_BYTES = 1 << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private long position;
+
+    /**
+     * @param file snapshot file
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    SnapshotReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        size = channel.size();
+    }
+
+    /**
+     * @return number of bytes not read yet
+     */
+    long remaining() {
+        return size - position;
+    }
+
+    ByteBuffer map(int bytes) throws IOException {
+        if (bytes > remaining()) {
+            throw new IOException(TRUNCATED_SNAPSHOT);
+        }
+        final ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, bytes)
+                                         .order(ByteOrder.LITTLE_ENDIAN);
+        position += bytes;
+        return region;
+    }
+
+    void getBytes(byte[] values) throws IOException {
+        for (int from = 0; from < values.length; ) {
+            final int length = Math.min(values.length - from, MAX_REGION_BYTES);
+            map(length).get(values, from, length);
+            from += length;
+        }
+    }
+
+    void getInts(int[] values) throws IOException {
+        for (int from = 0; from < values.length; ) {
+            final int length = Math.min(values.length - from, MAX_REGION_BYTES / Integer.BYTES);
+            map(length * Integer.BYTES).asIntBuffer().get(values, from, length);
+            from += length;
+        }
+    }
+
+    void getLongs(long[] values) throws IOException {
+        for (int from = 0; from < values.length; ) {
+            final int length = Math.min(values.length - from, MAX_REGION_BYTES / Long.BYTES);
+            map(length * Long.BYTES).asLongBuffer().get(values, from, length);
+            from += length;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,98 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the little endian values of a snapshot to a file channel through one direct buffer, so arrays of any size
+ * are written without a heap copy of their own.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class SnapshotWriter implements Closeable {
+
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Creates the file provided, or truncates it if it already exists.
+     *
+     * @param file snapshot file
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    SnapshotWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                   StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    void putInt(int value) throws IOException {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void putBytes(byte[] values) throws IOException {
+        for (int from = 0; from < values.length; ) {
+            ensureRemaining(1);
+            final int length = Math.min(values.length - from, buffer.remaining());
+            buffer.put(values, from, length);
+            from += length;
+        }
+    }
+
+    void putInts(int[] values) throws IOException {
+        for (int from = 0; from < values.length; ) {
+            ensureRemaining(Integer.BYTES);
+            final int length = Math.min(values.length - from, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, from, length);
+            buffer.position(buffer.position() + (length * Integer.BYTES));
+            from += length;
+        }
+    }
+
+    void putLongs(long[] values) throws IOException {
+        for (int from = 0; from < values.length; ) {
+            ensureRemaining(Long.BYTES);
+            final int length = Math.min(values.length - from, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, from, length);
+            buffer.position(buffer.position() + (length * Long.BYTES));
+            from += length;
+        }
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Flushes the buffer, forces the file contents to the storage device and closes the channel.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+}
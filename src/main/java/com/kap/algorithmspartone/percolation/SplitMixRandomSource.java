@@ -0,0 +1,32 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * SplitMix64, the generator behind java.util.SplittableRandom. For the same seed nextLong() returns the same sequence
+ * as new SplittableRandom(seed).nextLong().
+ *
+ * @author Konstantinos Antoniou
+ */
+final class SplitMixRandomSource extends RandomSource {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    /**
+     * @param seed seed
+     */
+    SplitMixRandomSource(long seed) {
+        state = seed;
+    }
+
+    @Override
+    void reseed(long seed) {
+        state = seed;
+    }
+
+    @Override
+    long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+}
@@ -0,0 +1,267 @@
+package com.kap.algorithmspartone.percolation;
+
+import edu.princeton.cs.algs4.StdOut;
+import edu.princeton.cs.algs4.StdRandom;
+
+import java.util.Arrays;
+
+/**
+ * Hoshen-Kopelman style percolation checker for grids which are produced one row at a time and never held in memory
+ * as a whole.
+ * <p>
+ * Only the cluster labels of the previous row are kept. When a row arrives its open sites and the clusters of the
+ * previous row become the nodes of a small union find, at most 2 * width of them, which resolves the label
+ * equivalences of that row. Clusters of the previous row which no site of the new row touches are finished and only
+ * their size is remembered. The surviving clusters are then relabelled 0 to k-1 for the next row.
+ * <p>
+ * The memory used is O(width) whatever the number of rows. The grid percolates when a cluster which touches the first
+ * row also touches the last row seen so far.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class StreamingPercolation {
+
+    private static final String INVALID_WIDTH = "Row width provided is invalid. Valid input should be an integer "
+                                                + "bigger than zero";
+    private static final String INVALID_ROW = "Row provided is null or does not match the row width.";
+
+    private static final int BLOCKED = -1;
+
+    private final int width;
+
+    // clusters touching the previous row, labelled 0 to activeClusters-1
+    private int[] previousLabels;
+    private int[] currentLabels;
+    private int activeClusters;
+    private long[] activeSizes;
+    private boolean[] activeTop;
+    private long[] nextSizes;
+    private boolean[] nextTop;
+
+    // label equivalence union find. Nodes 0 to activeClusters-1 are the clusters of the previous row and node
+    // activeClusters + c is the site in column c of the current row.
+    private final int[] parent;
+    private final long[] nodeSizes;
+    private final boolean[] nodeTop;
+    private final int[] newLabels;
+
+    private long rows;
+    private long finishedClusters;
+    private long largestFinishedCluster;
+
+    /**
+     * @param width number of sites in every row
+     */
+    public StreamingPercolation(int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException(INVALID_WIDTH);
+        }
+        this.width = width;
+        previousLabels = new int[width];
+        currentLabels = new int[width];
+        Arrays.fill(previousLabels, BLOCKED);
+        final int maxClusters = (width + 1) / 2;
+        activeSizes = new long[maxClusters];
+        activeTop = new boolean[maxClusters];
+        nextSizes = new long[maxClusters];
+        nextTop = new boolean[maxClusters];
+        parent = new int[maxClusters + width];
+        nodeSizes = new long[maxClusters + width];
+        nodeTop = new boolean[maxClusters + width];
+        newLabels = new int[maxClusters + width];
+    }
+
+    /**
+     * Adds the next row of the grid.
+     *
+     * @param openSites open state of every site of the row
+     */
+    public void addRow(boolean[] openSites) {
+        if ((openSites == null) || (openSites.length != width)) {
+            throw new IllegalArgumentException(INVALID_ROW);
+        }
+        final int previousClusters = beginRow();
+        for (int col = 0; col < width; col++) {
+            currentLabels[col] = openSites[col] ? addSite(previousClusters, col) : BLOCKED;
+        }
+        endRow(previousClusters);
+    }
+
+    /**
+     * Adds the next row of the grid, packed 64 sites to a word. Bit c % 64 of word c / 64 is the site in column c.
+     *
+     * @param openSites open state of every site of the row
+     */
+    public void addRow(long[] openSites) {
+        if ((openSites == null) || (openSites.length != SiteBitSet.wordsFor(width))) {
+            throw new IllegalArgumentException(INVALID_ROW);
+        }
+        final int previousClusters = beginRow();
+        for (int col = 0; col < width; col++) {
+            final boolean open = (openSites[col >>> 6] & (1L << col)) != 0;
+            currentLabels[col] = open ? addSite(previousClusters, col) : BLOCKED;
+        }
+        endRow(previousClusters);
+    }
+
+    /**
+     * Turns the clusters of the previous row into union find nodes.
+     *
+     * @return number of clusters of the previous row
+     */
+    private int beginRow() {
+        for (int label = 0; label < activeClusters; label++) {
+            parent[label] = label;
+            nodeSizes[label] = activeSizes[label];
+            nodeTop[label] = activeTop[label];
+        }
+        return activeClusters;
+    }
+
+    /**
+     * Adds an open site of the current row and joins it to its open left and upper neighbours.
+     *
+     * @return the union find node of the site
+     */
+    private int addSite(int previousClusters, int col) {
+        final int node = previousClusters + col;
+        parent[node] = node;
+        nodeSizes[node] = 1;
+        nodeTop[node] = rows == 0;
+        if ((col > 0) && (currentLabels[col - 1] != BLOCKED)) {
+            union(node, node - 1);
+        }
+        if (previousLabels[col] != BLOCKED) {
+            union(node, previousLabels[col]);
+        }
+        return node;
+    }
+
+    /**
+     * Retires the clusters of the previous row which did not reach the current row and relabels the surviving ones.
+     */
+    private void endRow(int previousClusters) {
+        Arrays.fill(newLabels, 0, previousClusters + width, BLOCKED);
+        int clusters = 0;
+        for (int col = 0; col < width; col++) {
+            if (currentLabels[col] == BLOCKED) {
+                continue;
+            }
+            final int root = find(currentLabels[col]);
+            if (newLabels[root] == BLOCKED) {
+                newLabels[root] = clusters;
+                nextSizes[clusters] = nodeSizes[root];
+                nextTop[clusters] = nodeTop[root];
+                clusters++;
+            }
+            currentLabels[col] = newLabels[root];
+        }
+
+        for (int label = 0; label < previousClusters; label++) {
+            final int root = find(label);
+            if ((root == label) && (newLabels[root] == BLOCKED)) {
+                finishedClusters++;
+                largestFinishedCluster = Math.max(largestFinishedCluster, nodeSizes[root]);
+            }
+        }
+
+        final int[] labels = previousLabels;
+        previousLabels = currentLabels;
+        currentLabels = labels;
+        final long[] sizes = activeSizes;
+        activeSizes = nextSizes;
+        nextSizes = sizes;
+        final boolean[] top = activeTop;
+        activeTop = nextTop;
+        nextTop = top;
+        activeClusters = clusters;
+        rows++;
+    }
+
+    private int find(int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    private void union(int p, int q) {
+        final int rootP = find(p);
+        final int rootQ = find(q);
+        if (rootP == rootQ) {
+            return;
+        }
+        // keep the smaller node as the root. Nodes of the previous row always win, which keeps their labels stable.
+        final int root = Math.min(rootP, rootQ);
+        final int child = Math.max(rootP, rootQ);
+        parent[child] = root;
+        nodeSizes[root] += nodeSizes[child];
+        nodeTop[root] = nodeTop[root] || nodeTop[child];
+    }
+
+    /**
+     * @return number of rows added so far
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Checks whether a cluster connects the first row with the last row added so far.
+     *
+     * @return true if the rows added so far percolate. false otherwise.
+     */
+    public boolean percolates() {
+        for (int label = 0; label < activeClusters; label++) {
+            if (activeTop[label]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return number of clusters in the rows added so far
+     */
+    public long clusterCount() {
+        return finishedClusters + activeClusters;
+    }
+
+    /**
+     * @return number of sites in the largest cluster of the rows added so far
+     */
+    public long largestClusterSize() {
+        long largest = largestFinishedCluster;
+        for (int label = 0; label < activeClusters; label++) {
+            largest = Math.max(largest, activeSizes[label]);
+        }
+        return largest;
+    }
+
+    /**
+     * Test client. Streams a random width-by-rows grid whose sites are open with probability p.
+     *
+     * @param args arguments provided. width, rows, p and optionally the seed.
+     */
+    public static void main(String[] args) {
+        int width = Integer.parseInt(args[0]);
+        long rowsNo = Long.parseLong(args[1]);
+        double p = Double.parseDouble(args[2]);
+        long seed = (args.length > 3) ? Long.parseLong(args[3]) : StdRandom.uniform(Integer.MAX_VALUE);
+        RandomSource random = RandomSourceType.XOROSHIRO.create(seed);
+
+        StreamingPercolation streaming = new StreamingPercolation(width);
+        boolean[] row = new boolean[width];
+        for (long r = 0; r < rowsNo; r++) {
+            for (int col = 0; col < width; col++) {
+                row[col] = random.nextDouble() < p;
+            }
+            streaming.addRow(row);
+        }
+
+        StdOut.println("percolates           = " + streaming.percolates());
+        StdOut.println("clusters             = " + streaming.clusterCount());
+        StdOut.println("largest cluster size = " + streaming.largestClusterSize());
+    }
+}
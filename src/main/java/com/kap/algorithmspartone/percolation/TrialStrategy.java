@@ -0,0 +1,82 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Ways a percolation trial picks the next site to open.
+ *
+ * @author Konstantinos Antoniou
+ */
+public enum TrialStrategy {
+
+    /**
+     * Draws a uniformly random site and throws the draw away if the site is already open.
+     */
+    REJECTION_SAMPLING {
+        @Override
+        int[] newScratch(int n) {
+            return null;
+        }
+
+        @Override
+        int openUntilPercolates(Percolation percolation, int n, RandomSource random, int[] scratch) {
+            int openSites = 0;
+            while (!percolation.percolates()) {
+                int i = random.nextInt(n) + 1;
+                int j = random.nextInt(n) + 1;
+                if (!percolation.isOpen(i, j)) {
+                    percolation.open(i, j);
+                    openSites++;
+                }
+            }
+            return openSites;
+        }
+    },
+
+    /**
+     * Opens the sites in the order of a random permutation of the n^2 site indices. The permutation is built lazily by
+     * an in-place Fisher-Yates shuffle, so every open costs exactly one random draw and no draw is wasted.
+     */
+    SHUFFLED_SITES {
+        @Override
+        int[] newScratch(int n) {
+            return new int[n * n];
+        }
+
+        @Override
+        int openUntilPercolates(Percolation percolation, int n, RandomSource random, int[] scratch) {
+            // every trial shuffles the identity permutation, so that its sites depend on its own seed only and not
+            // on the trials the same worker ran before it
+            for (int i = 0; i < scratch.length; i++) {
+                scratch[i] = i;
+            }
+            int openSites = 0;
+            while (!percolation.percolates()) {
+                final int pick = openSites + random.nextInt(scratch.length - openSites);
+                final int site = scratch[pick];
+                scratch[pick] = scratch[openSites];
+                scratch[openSites] = site;
+                percolation.open((site / n) + 1, (site % n) + 1);
+                openSites++;
+            }
+            return openSites;
+        }
+    };
+
+    /**
+     * @param n size of the grid
+     *
+     * @return the working array a worker reuses across the trials it runs. null if the strategy needs none.
+     */
+    abstract int[] newScratch(int n);
+
+    /**
+     * Opens sites of the percolation system provided until it percolates.
+     *
+     * @param percolation percolation system with no open sites
+     * @param n           size of the grid
+     * @param random      random stream of the trial
+     * @param scratch     working array created by newScratch
+     *
+     * @return number of sites opened
+     */
+    abstract int openUntilPercolates(Percolation percolation, int n, RandomSource random, int[] scratch);
+}
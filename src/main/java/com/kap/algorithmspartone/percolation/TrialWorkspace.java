@@ -0,0 +1,47 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Percolation system, random generator and scratch array a thread reuses for every trial it runs during one
+ * experiment, so that running a trial allocates nothing however the trials are split into batches and tasks.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class TrialWorkspace {
+
+    private final int n;
+    private final TrialStrategy strategy;
+    private final Percolation percolation;
+    private final RandomSource random;
+    private final int[] scratch;
+
+    /**
+     * @param n                size of the grid
+     * @param strategy         way every trial picks the next site to open
+     * @param randomSourceType generator the trials draw their sites from
+     */
+    TrialWorkspace(int n, TrialStrategy strategy, RandomSourceType randomSourceType) {
+        this.n = n;
+        this.strategy = strategy;
+        percolation = new Percolation(n);
+        random = randomSourceType.create(0L);
+        scratch = strategy.newScratch(n);
+    }
+
+    /**
+     * Runs the trials in the range [from, to) one after another, resetting the system and reseeding the generator
+     * before each one, and stores their thresholds.
+     *
+     * @param seeds      per trial seeds
+     * @param thresholds array which receives the percolation threshold of every trial
+     * @param from       first trial number (inclusive)
+     * @param to         last trial number (exclusive)
+     */
+    void run(long[] seeds, double[] thresholds, int from, int to) {
+        for (int expNo = from; expNo < to; expNo++) {
+            percolation.reset();
+            random.reseed(seeds[expNo]);
+            final int openSites = strategy.openUntilPercolates(percolation, n, random, scratch);
+            thresholds[expNo] = (double) openSites / ((double) n * n);
+        }
+    }
+}
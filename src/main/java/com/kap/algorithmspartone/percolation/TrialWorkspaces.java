@@ -0,0 +1,46 @@
+package com.kap.algorithmspartone.percolation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Workspaces of the threads which run the trials of one experiment, owned by that experiment.
+ * <p>
+ * Every thread gets its own workspace the first time it runs a trial and reuses it for the rest of the experiment,
+ * however many batches and tasks the trials are split into. The workspaces are held by this object only, not by the
+ * threads, so they become garbage together with it once the experiment is over, even on long-lived pool threads.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class TrialWorkspaces {
+
+    private final int n;
+    private final TrialStrategy strategy;
+    private final RandomSourceType randomSourceType;
+    private final ConcurrentMap<Thread, TrialWorkspace> byThread = new ConcurrentHashMap<>();
+
+    /**
+     * @param n                size of the grid
+     * @param strategy         way every trial picks the next site to open
+     * @param randomSourceType generator the trials draw their sites from
+     */
+    TrialWorkspaces(int n, TrialStrategy strategy, RandomSourceType randomSourceType) {
+        this.n = n;
+        this.strategy = strategy;
+        this.randomSourceType = randomSourceType;
+    }
+
+    /**
+     * @return the workspace of the calling thread, created on its first call
+     */
+    TrialWorkspace current() {
+        final Thread thread = Thread.currentThread();
+        TrialWorkspace workspace = byThread.get(thread);
+        if (workspace == null) {
+            // only the calling thread ever puts its own key, so there is no race to lose
+            workspace = new TrialWorkspace(n, strategy, randomSourceType);
+            byThread.put(thread, workspace);
+        }
+        return workspace;
+    }
+}
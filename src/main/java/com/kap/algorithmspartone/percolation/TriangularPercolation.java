@@ -0,0 +1,55 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Site percolation on a triangular lattice of m rows and n columns, each site joined to 6 neighbours. The rows are
+ * drawn sheared, so that besides its 4 horizontal and vertical neighbours a site (row, col) touches (row - 1, col + 1)
+ * and (row + 1, col - 1). The system percolates when an open path joins row 1 to row m.
+ *
+ * @author Konstantinos Antoniou
+ */
+public final class TriangularPercolation extends GridLatticePercolation {
+
+    /**
+     * @param m number of rows
+     * @param n number of columns
+     */
+    public TriangularPercolation(int m, int n) {
+        super(m, n);
+    }
+
+    /**
+     * Opens the site provided. Opening a site which is already open has no effect.
+     *
+     * @param row site row index provided, 1 to m
+     * @param col site column index provided, 1 to n
+     */
+    @Override
+    public void open(int row, int col) {
+        final int site = index(row, col);
+        if (!openSiteInRow(site, row)) {
+            return;
+        }
+        final int rows = rows();
+        final int cols = cols();
+        final boolean left = col > 1;
+        final boolean right = col < cols;
+        if (left) {
+            joinIfOpen(site, site - 1);
+        }
+        if (right) {
+            joinIfOpen(site, site + 1);
+        }
+        if (row > 1) {
+            joinIfOpen(site, site - cols);
+            if (right) {
+                joinIfOpen(site, site - cols + 1);
+            }
+        }
+        if (row < rows) {
+            joinIfOpen(site, site + cols);
+            if (left) {
+                joinIfOpen(site, site + cols - 1);
+            }
+        }
+    }
+}
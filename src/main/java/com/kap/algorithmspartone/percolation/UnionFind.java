@@ -0,0 +1,62 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Union find data type over the sites 0 to n-1 used by the percolation classes.
+ * <p>
+ * Implementations do not validate the site indices. Callers are expected to have validated them already.
+ *
+ * @author Konstantinos Antoniou
+ */
+interface UnionFind {
+
+    /**
+     * @param p site index
+     *
+     * @return the canonical site of the component containing p
+     */
+    int find(int p);
+
+    /**
+     * Merges the component containing p with the component containing q.
+     *
+     * @param p site index
+     * @param q site index
+     */
+    void union(int p, int q);
+
+    /**
+     * @param p site index
+     * @param q site index
+     *
+     * @return true if p and q are in the same component. false otherwise.
+     */
+    boolean connected(int p, int q);
+
+    /**
+     * @return number of components
+     */
+    int count();
+
+    /**
+     * @param root canonical site of a component
+     *
+     * @return number of sites in the component
+     */
+    int size(int root);
+
+    /**
+     * Puts every site back in its own component.
+     */
+    void reset();
+
+    /**
+     * Puts one site back in its own component. A component is split by isolating every one of its sites and joining
+     * again those which still belong together; the component count is exact again once every site of the component
+     * has been isolated.
+     *
+     * @param p site index
+     *
+     * @throws UnsupportedOperationException if the backend cannot change a single site
+     */
+    void isolate(int p);
+}
@@ -0,0 +1,47 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * Union find backends a Percolation can be built on.
+ *
+ * @author Konstantinos Antoniou
+ */
+public enum UnionFindType {
+
+    /**
+     * Int arrays, union by size and path halving. This is the default backend.
+     */
+    COMPACT {
+        @Override
+        UnionFind create(int n) {
+            return new CompactUnionFind(n);
+        }
+    },
+
+    /**
+     * algs4's WeightedQuickUnionUF. Union by size without path compression.
+     */
+    WEIGHTED_QUICK_UNION {
+        @Override
+        UnionFind create(int n) {
+            return new AlgsUnionFind(n);
+        }
+    },
+
+    /**
+     * Union by rank without path compression, keeping a history of its unions so that they can be undone. Finds are
+     * O(log n). This is the backend Percolation's checkpoint and rollback need.
+     */
+    ROLLBACK {
+        @Override
+        UnionFind create(int n) {
+            return new RollbackUnionFind(n);
+        }
+    };
+
+    /**
+     * @param n number of sites
+     *
+     * @return a new union find of this type with n sites
+     */
+    abstract UnionFind create(int n);
+}
@@ -0,0 +1,39 @@
+package com.kap.algorithmspartone.percolation;
+
+/**
+ * xoroshiro128++ generator of Blackman and Vigna. Its 128 bit state is expanded from the seed with SplitMix64, which
+ * never yields the forbidden all zero state from two consecutive outputs.
+ *
+ * @author Konstantinos Antoniou
+ */
+final class XoroshiroRandomSource extends RandomSource {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long s0;
+    private long s1;
+
+    /**
+     * @param seed seed
+     */
+    XoroshiroRandomSource(long seed) {
+        reseed(seed);
+    }
+
+    @Override
+    void reseed(long seed) {
+        s0 = mix64(seed + GOLDEN_GAMMA);
+        s1 = mix64(seed + (2 * GOLDEN_GAMMA));
+    }
+
+    @Override
+    long nextLong() {
+        final long x0 = s0;
+        long x1 = s1;
+        final long result = Long.rotateLeft(x0 + x1, 17) + x0;
+        x1 ^= x0;
+        s0 = Long.rotateLeft(x0, 49) ^ x1 ^ (x1 << 21);
+        s1 = Long.rotateLeft(x1, 28);
+        return result;
+    }
+}
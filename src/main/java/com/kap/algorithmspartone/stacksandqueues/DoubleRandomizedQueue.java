@@ -0,0 +1,154 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import edu.princeton.cs.algs4.StdRandom;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Randomized queue of double values, with the semantics of RandomizedQueue and no boxing: dequeue and sample pick a
+ * uniformly random item, and every iterator returns the items in its own random order. The items are kept in a double
+ * array which doubles when full and halves when a quarter full.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class DoubleRandomizedQueue implements Iterable<Double> {
+
+    private double[] randomQueue;
+    private int size = 0;
+
+    /**
+     * Constructs an empty queue of size 1.
+     */
+    public DoubleRandomizedQueue() {
+        randomQueue = new double[1];
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if the queue is empty or false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the size of the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds an item to the end of the queue.
+     *
+     * @param item item to be added in the queue
+     */
+    public void enqueue(double item) {
+        if (size == randomQueue.length) {
+            randomQueue = Arrays.copyOf(randomQueue, 2 * randomQueue.length);
+        }
+
+        randomQueue[size++] = item;
+    }
+
+    /**
+     * @return and remove a random item from the queue
+     */
+    public double dequeue() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        double item = getAndRemoveRandomItem(randomQueue, size);
+        size--;
+
+        if ((size > 0) && (size == (randomQueue.length / 4))) {
+            randomQueue = Arrays.copyOf(randomQueue, randomQueue.length / 2);
+        }
+
+        return item;
+    }
+
+    /**
+     * @return a random item from the queue but it does not remove it
+     */
+    public double sample() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        return randomQueue[StdRandom.uniform(size)];
+    }
+
+    /**
+     * @return a new array holding the queue items in no particular order
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(randomQueue, size);
+    }
+
+    /**
+     * @return an independent iterator over the queue items in random order
+     */
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new DoubleRandomizedQueueIterator();
+    }
+
+    private class DoubleRandomizedQueueIterator implements PrimitiveIterator.OfDouble {
+        private final double[] iteratorArray = toArray();
+        private int iteratorArraySize = iteratorArray.length;
+
+        /**
+         * Checks whether there is a next item to return during an iteration.
+         *
+         * @return true if there is a next item or false otherwise.
+         */
+        @Override
+        public boolean hasNext() {
+            return iteratorArraySize > 0;
+        }
+
+        /**
+         * @return the next item in the iteration sequence if there is a next one to return
+         */
+        @Override
+        public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            double item = getAndRemoveRandomItem(iteratorArray, iteratorArraySize);
+            iteratorArraySize--;
+
+            return item;
+        }
+
+        /**
+         * This method is not supported in the scope of this exercise.
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Helper method to get and subsequently remove a random element from the array specified. The last element of
+     * the array takes its place.
+     *
+     * @param array     array from which the random element has to be drawn
+     * @param arraySize array size for the array specified
+     * @return an random item from the array specified
+     */
+    private static double getAndRemoveRandomItem(double[] array, int arraySize) {
+        int index = StdRandom.uniform(arraySize);
+        double item = array[index];
+        array[index] = array[arraySize - 1];
+        return item;
+    }
+
+}
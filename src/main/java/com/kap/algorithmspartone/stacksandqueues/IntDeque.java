@@ -0,0 +1,195 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Deque of int values, with the semantics of RingDeque and no boxing.
+ * <p>
+ * The values sit in a circular int array whose length is a power of two. The array doubles when full and halves when
+ * a quarter full, never going below its initial length, so every operation is amortised O(1). The iterator hands the
+ * values out through nextInt() without allocating a wrapper per value.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class IntDeque implements Iterable<Integer> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] items;
+    private int head;
+    private int size;
+
+    /**
+     * Constructs an empty deque
+     */
+    public IntDeque() {
+        items = new int[MIN_CAPACITY];
+    }
+
+    /**
+     * Checks if the deque is empty
+     *
+     * @return true if deque is empty and false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return size of the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds an item to the front of the deque
+     */
+    public void addFirst(int item) {
+        if (size == items.length) {
+            resize(2 * items.length);
+        }
+
+        head = (head - 1) & (items.length - 1);
+        items[head] = item;
+        size++;
+    }
+
+    /**
+     * Adds an item at the end of the deque
+     */
+    public void addLast(int item) {
+        if (size == items.length) {
+            resize(2 * items.length);
+        }
+
+        items[(head + size) & (items.length - 1)] = item;
+        size++;
+    }
+
+    /**
+     * @return the item from the front of the deque and also removes it from the deque
+     */
+    public int removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        int item = items[head];
+        head = (head + 1) & (items.length - 1);
+        size--;
+        shrinkIfUnderused();
+        return item;
+    }
+
+    /**
+     * @return the item from the end of the deque and also removes it from the deque
+     */
+    public int removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        int item = items[(head + size - 1) & (items.length - 1)];
+        size--;
+        shrinkIfUnderused();
+        return item;
+    }
+
+    /**
+     * @param i position of the item, counted from the front of the deque starting at 0
+     *
+     * @return the item at the position provided, without removing it
+     */
+    public int get(int i) {
+        if ((i < 0) || (i >= size)) {
+            throw new IllegalArgumentException();
+        }
+        return items[(head + i) & (items.length - 1)];
+    }
+
+    /**
+     * @return a new array holding the deque items in order from front to end
+     */
+    public int[] toArray() {
+        int[] array = new int[size];
+        copyInto(array);
+        return array;
+    }
+
+    /**
+     * @return an iterator over the deque items in order from front to end
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntDequeIterator();
+    }
+
+    private class IntDequeIterator implements PrimitiveIterator.OfInt {
+        private int position = 0;
+
+        /**
+         * Checks whether there is a next element to return or not
+         *
+         * @return true if there is next element or false otherwise
+         */
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        /**
+         * @return the next element in the deque during an iteration of the elements if it exists. otherwise throws
+         * a NoSuchElementException.
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return items[(head + position++) & (items.length - 1)];
+        }
+
+        /**
+         * this method is not supported for this exercise
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Copies the items in order from front to end to the start of the array provided.
+     *
+     * @param array array at least as long as the size of the deque
+     */
+    private void copyInto(int[] array) {
+        int firstPart = Math.min(size, items.length - head);
+        System.arraycopy(items, head, array, 0, firstPart);
+        System.arraycopy(items, 0, array, firstPart, size - firstPart);
+    }
+
+    /**
+     * Halves the array once the deque holds a quarter of it, leaving room to grow again before the next resize.
+     */
+    private void shrinkIfUnderused() {
+        if ((items.length > MIN_CAPACITY) && (size <= (items.length / 4))) {
+            resize(items.length / 2);
+        }
+    }
+
+    /**
+     * Copies the items into a new array of the capacity provided, moving the front of the deque to slot 0.
+     *
+     * @param capacity power of two at least as large as the size of the deque
+     */
+    private void resize(int capacity) {
+        int[] copy = new int[capacity];
+        copyInto(copy);
+        items = copy;
+        head = 0;
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Deque backed by a circular array whose length is a power of two, so that wrapping an index around is a single mask.
+ * <p>
+ * It offers the API of Deque plus indexed access. Every item costs one array slot instead of a linked-list node, and
+ * iterating walks consecutive slots. The array doubles when full and halves when a quarter full, never going below
+ * its initial length, so every operation is amortised O(1).
+ *
+ * @author Konstantinos Antoniou
+ */
+public class RingDeque<Item> implements Iterable<Item> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private Item[] items;
+    private int head;
+    private int size;
+
+    /**
+     * Constructs an empty deque
+     */
+    public RingDeque() {
+        items = (Item[]) new Object[MIN_CAPACITY];
+    }
+
+    /**
+     * Checks if the deque is empty
+     *
+     * @return true if deque is empty and false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return size of the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds an item to the front of the deque
+     */
+    public void addFirst(Item item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        if (size == items.length) {
+            resize(2 * items.length);
+        }
+
+        head = (head - 1) & (items.length - 1);
+        items[head] = item;
+        size++;
+    }
+
+    /**
+     * Adds an item at the end of the deque
+     */
+    public void addLast(Item item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        if (size == items.length) {
+            resize(2 * items.length);
+        }
+
+        items[(head + size) & (items.length - 1)] = item;
+        size++;
+    }
+
+    /**
+     * @return the item from the front of the deque and also removes it from the deque
+     */
+    public Item removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        Item item = items[head];
+        items[head] = null;
+        head = (head + 1) & (items.length - 1);
+        size--;
+        shrinkIfUnderused();
+        return item;
+    }
+
+    /**
+     * @return the item from the end of the deque and also removes it from the deque
+     */
+    public Item removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        int last = (head + size - 1) & (items.length - 1);
+        Item item = items[last];
+        items[last] = null;
+        size--;
+        shrinkIfUnderused();
+        return item;
+    }
+
+    /**
+     * @param i position of the item, counted from the front of the deque starting at 0
+     *
+     * @return the item at the position provided, without removing it
+     */
+    public Item get(int i) {
+        if ((i < 0) || (i >= size)) {
+            throw new IllegalArgumentException();
+        }
+        return items[(head + i) & (items.length - 1)];
+    }
+
+    /**
+     * @return an iterator over the deque items in order from front to end
+     */
+    public Iterator<Item> iterator() {
+        return new RingDequeIterator();
+    }
+
+    private class RingDequeIterator implements Iterator<Item> {
+        private int position = 0;
+
+        /**
+         * Checks whether there is a next element to return or not
+         *
+         * @return true if there is next element or false otherwise
+         */
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        /**
+         * @return the next element in the deque during an iteration of the elements if it exists. otherwise throws
+         * a NoSuchElementException.
+         */
+        @Override
+        public Item next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return items[(head + position++) & (items.length - 1)];
+        }
+
+        /**
+         * this method is not supported for this exercise
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Halves the array once the deque holds a quarter of it, leaving room to grow again before the next resize.
+     */
+    private void shrinkIfUnderused() {
+        if ((items.length > MIN_CAPACITY) && (size <= (items.length / 4))) {
+            resize(items.length / 2);
+        }
+    }
+
+    /**
+     * Copies the items into a new array of the capacity provided, moving the front of the deque to slot 0.
+     *
+     * @param capacity power of two at least as large as the size of the deque
+     */
+    private void resize(int capacity) {
+        Item[] copy = (Item[]) new Object[capacity];
+        int firstPart = Math.min(size, items.length - head);
+        System.arraycopy(items, head, copy, 0, firstPart);
+        System.arraycopy(items, 0, copy, firstPart, size - firstPart);
+        items = copy;
+        head = 0;
+    }
+
+}
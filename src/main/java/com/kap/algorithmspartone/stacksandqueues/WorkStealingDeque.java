@@ -0,0 +1,139 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free work-stealing deque after Chase and Lev, "Dynamic Circular Work-Stealing Deque" (SPAA 2005).
+ * <p>
+ * One thread owns the deque and is the only one allowed to call addLast and removeLast. Those run without locks and,
+ * except when removeLast takes the very last item, without a compare-and-set. Any thread may call removeFirst to
+ * steal the oldest item; thieves race each other and the owner through a compare-and-set on the top index, so a steal
+ * returns null both when the deque is empty and when it loses a race, and the thief simply tries again or looks
+ * elsewhere.
+ * <p>
+ * The items live in a circular array whose length is a power of two. The owner doubles the array when it is full and
+ * never shrinks it. Thieves may still be reading an old array after a resize; that is safe because the owner never
+ * writes to an array once it has replaced it. All index fields are volatile, which gives the store-load ordering the
+ * algorithm needs between the owner's write of bottom and its read of top in removeLast. A stolen item stays
+ * referenced by its slot until the owner reuses the slot.
+ *
+ * @author Konstantinos Antoniou
+ */
+public class WorkStealingDeque<Item> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final AtomicLong top = new AtomicLong();
+    private volatile long bottom;
+    private volatile AtomicReferenceArray<Item> items = new AtomicReferenceArray<Item>(MIN_CAPACITY);
+
+    /**
+     * Constructs an empty deque
+     */
+    public WorkStealingDeque() {
+        // Intentionally Blank
+    }
+
+    /**
+     * Checks if the deque is empty. Under concurrent use the answer may be stale by the time it returns.
+     *
+     * @return true if deque is empty and false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return size of the deque. Under concurrent use this is an estimate.
+     */
+    public int size() {
+        final long t = top.get();
+        final long b = bottom;
+        return (int) Math.max(0, b - t);
+    }
+
+    /**
+     * Adds an item at the end of the deque. Owner thread only.
+     */
+    public void addLast(Item item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final long b = bottom;
+        final long t = top.get();
+        AtomicReferenceArray<Item> array = items;
+        if ((b - t) >= array.length()) {
+            array = grow(array, t, b);
+            items = array;
+        }
+        array.lazySet((int) b & (array.length() - 1), item);
+        // the volatile write publishes the item to thieves
+        bottom = b + 1;
+    }
+
+    /**
+     * Removes the item at the end of the deque, the one added last. Owner thread only.
+     *
+     * @return the item, or null if the deque is empty
+     */
+    public Item removeLast() {
+        final long b = bottom - 1;
+        final AtomicReferenceArray<Item> array = items;
+        bottom = b;
+        // the volatile write of bottom above is ordered before this volatile read of top
+        final long t = top.get();
+
+        if (t > b) {
+            bottom = b + 1;
+            return null;
+        }
+
+        final int slot = (int) b & (array.length() - 1);
+        Item item = array.get(slot);
+        if (t == b) {
+            // last item: race the thieves for it
+            if (!top.compareAndSet(t, t + 1)) {
+                item = null;
+            }
+            bottom = b + 1;
+        }
+        if (item != null) {
+            array.lazySet(slot, null);
+        }
+        return item;
+    }
+
+    /**
+     * Steals the item at the front of the deque, the oldest one. Any thread.
+     *
+     * @return the item, or null if the deque is empty or another thread took the item first
+     */
+    public Item removeFirst() {
+        final long t = top.get();
+        final long b = bottom;
+        if (t >= b) {
+            return null;
+        }
+
+        final AtomicReferenceArray<Item> array = items;
+        final Item item = array.get((int) t & (array.length() - 1));
+        if (!top.compareAndSet(t, t + 1)) {
+            return null;
+        }
+        return item;
+    }
+
+    /**
+     * Copies the items from top to bottom into an array of twice the length, each one at the slot of its own index.
+     */
+    private AtomicReferenceArray<Item> grow(AtomicReferenceArray<Item> array, long t, long b) {
+        final AtomicReferenceArray<Item> grown = new AtomicReferenceArray<Item>(2 * array.length());
+        for (long i = t; i < b; i++) {
+            grown.lazySet((int) i & (grown.length() - 1), array.get((int) i & (array.length() - 1)));
+        }
+        return grown;
+    }
+
+}
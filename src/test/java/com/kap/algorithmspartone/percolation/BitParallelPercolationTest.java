@@ -0,0 +1,71 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class BitParallelPercolationTest {
+
+    @Test
+    public void testAgreesWithPercolation() {
+        for (int n : new int[]{1, 2, 17, 63, 64, 65, 130}) {
+            int wordsPerRow = BitParallelPercolation.wordsPerRow(n);
+            for (long seed = 0; seed < 40; seed++) {
+                double p = 0.5 + (seed % 5) * 0.05;
+                long[] grid = BitParallelPercolation.randomGrid(n, p, seed, RandomSourceType.XOROSHIRO);
+                Percolation percolation = new Percolation(n);
+                for (int row = 0; row < n; row++) {
+                    for (int col = 0; col < n; col++) {
+                        if ((grid[(row * wordsPerRow) + (col >>> 6)] & (1L << col)) != 0) {
+                            percolation.open(row + 1, col + 1);
+                        }
+                    }
+                }
+                assertEquals(percolation.percolates(), BitParallelPercolation.percolates(n, grid));
+            }
+        }
+    }
+
+    @Test
+    public void testPathTurningBackUpwards() {
+        // columns from the right, bit 0 first:
+        // 1 0 0 0 0
+        // 1 0 1 1 1
+        // 1 0 1 0 1
+        // 1 1 1 0 1
+        // 0 0 0 0 1  reached only by turning back up the third column
+        int n = 5;
+        long[] grid = {0b00001, 0b11101, 0b10101, 0b10111, 0b10000};
+        assertTrue(BitParallelPercolation.percolates(n, grid));
+        grid[3] = 0b10011;
+        assertFalse(BitParallelPercolation.percolates(n, grid));
+    }
+
+    @Test
+    public void testRunAcrossWordBoundary() {
+        int n = 130;
+        long[] grid = new long[n * 3];
+        // top row opens column 0 only; row 1 is a run from column 0 to column 129; bottom rows open column 129
+        grid[0] = 1L;
+        grid[3] = -1L;
+        grid[4] = -1L;
+        grid[5] = 0b11L;
+        for (int row = 2; row < n; row++) {
+            grid[(row * 3) + 2] = 0b10L;
+        }
+        assertTrue(BitParallelPercolation.percolates(n, grid));
+    }
+
+    @Test
+    public void testPaddingBitsIgnored() {
+        int n = 3;
+        long[] grid = {0b1000, 0b1000, 0b1000};
+        assertFalse(BitParallelPercolation.percolates(n, grid));
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class ClusterSizeHistogramTest {
+
+    @Test
+    public void testMatchesDenseHistogramUnderRandomUpdates() {
+        final int maxSize = 200;
+        ClusterSizeHistogram histogram = new ClusterSizeHistogram();
+        int[] dense = new int[maxSize + 1];
+        Random random = new Random(11L);
+        for (int step = 0; step < 100000; step++) {
+            int size = 1 + random.nextInt(maxSize);
+            if ((dense[size] > 0) && random.nextBoolean()) {
+                histogram.decrement(size);
+                dense[size]--;
+            } else {
+                histogram.increment(size);
+                dense[size]++;
+            }
+        }
+
+        int distinctSizes = 0;
+        int largestSize = 0;
+        for (int size = 1; size <= maxSize; size++) {
+            assertEquals(dense[size], histogram.count(size));
+            distinctSizes += (dense[size] > 0) ? 1 : 0;
+            largestSize = (dense[size] > 0) ? size : largestSize;
+        }
+        assertEquals(distinctSizes, histogram.distinctSizes());
+        assertEquals(largestSize, histogram.largestSize());
+        assertEquals(2 * distinctSizes, histogram.toPairs().length);
+    }
+
+    @Test
+    public void testClearForgetsEverySize() {
+        ClusterSizeHistogram histogram = new ClusterSizeHistogram();
+        for (int size = 1; size <= 100; size++) {
+            histogram.increment(size);
+        }
+        histogram.clear();
+        assertEquals(0, histogram.distinctSizes());
+        assertEquals(0, histogram.count(50));
+        assertEquals(0, histogram.largestSize());
+        histogram.increment(50);
+        assertEquals(1, histogram.count(50));
+    }
+}
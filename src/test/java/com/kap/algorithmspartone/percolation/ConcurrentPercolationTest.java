@@ -0,0 +1,129 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class ConcurrentPercolationTest {
+
+    @Test
+    public void testSequentialBehaviour() {
+        ConcurrentPercolation percolation = new ConcurrentPercolation(3);
+        percolation.open(1, 1);
+        percolation.open(2, 1);
+        percolation.open(3, 3);
+        assertTrue(percolation.isFull(2, 1));
+        assertFalse(percolation.isFull(3, 3));
+        assertFalse(percolation.percolates());
+        percolation.open(2, 2);
+        percolation.open(2, 3);
+        assertTrue(percolation.percolates());
+        assertTrue(percolation.isFull(3, 3));
+        assertEquals(5, percolation.numberOfOpenSites());
+    }
+
+    @Test
+    public void testConcurrentWritersAgreeWithPercolation() throws InterruptedException {
+        final int n = 60;
+        final int threads = 4;
+        for (int round = 0; round < 5; round++) {
+            final ConcurrentPercolation concurrent = new ConcurrentPercolation(n);
+            final CountDownLatch start = new CountDownLatch(1);
+            final long seed = round;
+            Thread[] writers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                final SplittableRandom random = new SplittableRandom(seed * 31 + t);
+                writers[t] = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < (n * n) / 2; i++) {
+                        concurrent.open(random.nextInt(n) + 1, random.nextInt(n) + 1);
+                        concurrent.isFull(random.nextInt(n) + 1, random.nextInt(n) + 1);
+                    }
+                });
+                writers[t].start();
+            }
+            start.countDown();
+            for (Thread writer : writers) {
+                writer.join();
+            }
+
+            Percolation sequential = new Percolation(n);
+            for (int row = 1; row <= n; row++) {
+                for (int col = 1; col <= n; col++) {
+                    if (concurrent.isOpen(row, col)) {
+                        sequential.open(row, col);
+                    }
+                }
+            }
+            assertEquals(sequential.numberOfOpenSites(), concurrent.numberOfOpenSites());
+            assertEquals(sequential.percolates(), concurrent.percolates());
+            for (int row = 1; row <= n; row++) {
+                for (int col = 1; col <= n; col++) {
+                    assertEquals(sequential.isFull(row, col), concurrent.isFull(row, col));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSiteReportedFullStaysFull() throws InterruptedException {
+        final int n = 40;
+        final int threads = 4;
+        for (int round = 0; round < 5; round++) {
+            final ConcurrentPercolation concurrent = new ConcurrentPercolation(n);
+            final CountDownLatch start = new CountDownLatch(1);
+            final AtomicBoolean fullnessLost = new AtomicBoolean();
+            Thread[] workers = new Thread[2 * threads];
+            for (int t = 0; t < workers.length; t++) {
+                final SplittableRandom random = new SplittableRandom(round * 31L + t);
+                final boolean writer = t < threads;
+                workers[t] = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (writer) {
+                        for (int i = 0; i < n * n; i++) {
+                            concurrent.open(random.nextInt(n) + 1, random.nextInt(n) + 1);
+                        }
+                        return;
+                    }
+                    // readers sweep the whole grid again and again while the writers open sites
+                    boolean[] seenFull = new boolean[n * n];
+                    for (int sweep = 0; sweep < 4; sweep++) {
+                        for (int site = 0; site < n * n; site++) {
+                            boolean full = concurrent.isFull((site / n) + 1, (site % n) + 1);
+                            if (seenFull[site] && !full) {
+                                fullnessLost.set(true);
+                            }
+                            seenFull[site] |= full;
+                        }
+                    }
+                });
+                workers[t].start();
+            }
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            assertFalse(fullnessLost.get());
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class FirstFullTimeTest {
+
+    @Test
+    public void testAgreesWithIsFullScan() {
+        int n = 15;
+        int steps = 2 * n * n;
+        int[] rows = new int[steps];
+        int[] cols = new int[steps];
+        SplittableRandom random = new SplittableRandom(3);
+        for (int step = 0; step < steps; step++) {
+            rows[step] = random.nextInt(n) + 1;
+            cols[step] = random.nextInt(n) + 1;
+        }
+
+        int[] expected = new int[n * n];
+        int expectedPercolationStep = FirstFullTime.NEVER;
+        Percolation percolation = new Percolation(n);
+        for (int step = 1; step <= steps; step++) {
+            percolation.open(rows[step - 1], cols[step - 1]);
+            if (percolation.percolates() && (expectedPercolationStep == FirstFullTime.NEVER)) {
+                expectedPercolationStep = step;
+            }
+            for (int row = 1; row <= n; row++) {
+                for (int col = 1; col <= n; col++) {
+                    int site = (n * (row - 1)) + col - 1;
+                    if ((expected[site] == FirstFullTime.NEVER) && percolation.isFull(row, col)) {
+                        expected[site] = step;
+                    }
+                }
+            }
+        }
+
+        FirstFullTime firstFullTime = new FirstFullTime(n, rows, cols);
+        assertEquals(expectedPercolationStep, firstFullTime.percolationStep());
+        for (int site = 0; site < n * n; site++) {
+            assertEquals(expected[site], firstFullTime.fullTimes()[site]);
+        }
+        assertEquals(expected[n], firstFullTime.fullTime(2, 1));
+    }
+
+    @Test
+    public void testNeverFull() {
+        FirstFullTime firstFullTime = new FirstFullTime(3, new int[]{2, 3}, new int[]{2, 2});
+        assertEquals(FirstFullTime.NEVER, firstFullTime.percolationStep());
+        assertEquals(FirstFullTime.NEVER, firstFullTime.fullTime(2, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSiteOutsideGrid() {
+        new FirstFullTime(3, new int[]{4}, new int[]{1});
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class GraphPercolationTest {
+
+    @Test
+    public void testGridGraphAgreesWithPercolation() {
+        int n = 15;
+        int edges = 2 * n * (n - 1);
+        int[] from = new int[edges];
+        int[] to = new int[edges];
+        int e = 0;
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                int site = (n * row) + col;
+                if (col < n - 1) {
+                    from[e] = site;
+                    to[e++] = site + 1;
+                }
+                if (row < n - 1) {
+                    from[e] = site;
+                    to[e++] = site + n;
+                }
+            }
+        }
+        int[] top = new int[n];
+        int[] bottom = new int[n];
+        for (int col = 0; col < n; col++) {
+            top[col] = col;
+            bottom[col] = (n * (n - 1)) + col;
+        }
+
+        CsrGraph graph = CsrGraph.fromEdges(n * n, from, to);
+        assertEquals(edges, graph.edges());
+        assertEquals(2, graph.degree(0));
+        assertEquals(4, graph.degree(n + 1));
+
+        GraphPercolation graphPercolation = new GraphPercolation(graph, top, bottom);
+        Percolation percolation = new Percolation(n);
+        SplittableRandom random = new SplittableRandom(17);
+        for (int step = 0; step < n * n; step++) {
+            int site = random.nextInt(n * n);
+            graphPercolation.open(site);
+            percolation.open((site / n) + 1, (site % n) + 1);
+            assertEquals(percolation.percolates(), graphPercolation.percolates());
+            assertEquals(percolation.clusterCount(), graphPercolation.clusterCount());
+        }
+        for (int site = 0; site < n * n; site++) {
+            assertEquals(percolation.isFull((site / n) + 1, (site % n) + 1), graphPercolation.isFull(site));
+        }
+    }
+
+    @Test
+    public void testSourcesAndSinks() {
+        // 0 - 1 - 2 - 3 with a shortcut 0 - 3
+        CsrGraph graph = CsrGraph.fromEdges(4, new int[]{0, 1, 2, 0}, new int[]{1, 2, 3, 3});
+        GraphPercolation percolation = new GraphPercolation(graph, new int[]{0}, new int[]{2});
+        percolation.open(0);
+        percolation.open(3);
+        assertTrue(percolation.isFull(3));
+        assertFalse(percolation.percolates());
+        percolation.open(2);
+        assertTrue(percolation.percolates());
+        assertFalse(percolation.isOpen(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEdgeOutsideGraph() {
+        CsrGraph.fromEdges(2, new int[]{0}, new int[]{2});
+    }
+
+}
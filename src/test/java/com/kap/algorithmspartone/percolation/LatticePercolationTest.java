@@ -0,0 +1,159 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class LatticePercolationTest {
+
+    @Test
+    public void testSquareRectangularAgreesWithPercolation() {
+        int n = 20;
+        RectangularPercolation rectangular = new RectangularPercolation(n, n);
+        Percolation percolation = new Percolation(n);
+        SplittableRandom random = new SplittableRandom(9);
+        for (int step = 0; step < n * n; step++) {
+            int row = random.nextInt(n) + 1;
+            int col = random.nextInt(n) + 1;
+            rectangular.open(row, col);
+            percolation.open(row, col);
+            assertEquals(percolation.percolates(), rectangular.percolates());
+            assertEquals(percolation.clusterCount(), rectangular.clusterCount());
+            assertEquals(percolation.largestClusterSize(), rectangular.largestClusterSize());
+            assertEquals(percolation.isFull(row, col), rectangular.isFull(row, col));
+        }
+        for (int size = 1; size <= n * n; size++) {
+            assertEquals(percolation.clusterCountOfSize(size), rectangular.clusterCountOfSize(size));
+        }
+    }
+
+    @Test
+    public void testRectangularColumn() {
+        RectangularPercolation rectangular = new RectangularPercolation(3, 1);
+        rectangular.open(1, 1);
+        rectangular.open(3, 1);
+        assertFalse(rectangular.percolates());
+        rectangular.open(2, 1);
+        assertTrue(rectangular.percolates());
+        assertEquals(3, rectangular.sites());
+    }
+
+    @Test
+    public void testPeriodicWrapsAround() {
+        PeriodicPercolation periodic = new PeriodicPercolation(2, 4);
+        RectangularPercolation rectangular = new RectangularPercolation(2, 4);
+        periodic.open(1, 4);
+        periodic.open(2, 1);
+        rectangular.open(1, 4);
+        rectangular.open(2, 1);
+        assertFalse(periodic.percolates());
+
+        periodic.open(2, 4);
+        rectangular.open(2, 4);
+        rectangular.open(2, 3);
+        assertTrue(periodic.percolates());
+        assertFalse(rectangular.isFull(2, 1));
+        assertTrue(periodic.isFull(2, 1));
+        assertEquals(1, periodic.clusterCount());
+    }
+
+    @Test
+    public void testMooreJoinsDiagonals() {
+        MoorePercolation moore = new MoorePercolation(3, 3);
+        moore.open(1, 1);
+        moore.open(2, 2);
+        moore.open(3, 3);
+        assertTrue(moore.percolates());
+        assertEquals(1, moore.clusterCount());
+
+        moore = new MoorePercolation(3, 3);
+        moore.open(1, 3);
+        moore.open(2, 2);
+        moore.open(3, 1);
+        assertTrue(moore.percolates());
+    }
+
+    @Test
+    public void testTriangularJoinsOneDiagonal() {
+        TriangularPercolation triangular = new TriangularPercolation(3, 3);
+        triangular.open(1, 3);
+        triangular.open(2, 2);
+        triangular.open(3, 1);
+        assertTrue(triangular.percolates());
+
+        triangular = new TriangularPercolation(3, 3);
+        triangular.open(1, 1);
+        triangular.open(2, 2);
+        triangular.open(3, 3);
+        assertFalse(triangular.percolates());
+        assertEquals(3, triangular.clusterCount());
+    }
+
+    @Test
+    public void testCubicPercolatesThroughLayers() {
+        CubicPercolation cubic = new CubicPercolation(3);
+        cubic.open(1, 2, 2);
+        cubic.open(2, 2, 2);
+        cubic.open(2, 2, 3);
+        assertTrue(cubic.isFull(2, 2, 3));
+        assertFalse(cubic.percolates());
+        cubic.open(3, 1, 1);
+        assertFalse(cubic.percolates());
+        cubic.open(3, 2, 3);
+        assertTrue(cubic.percolates());
+        assertEquals(27, cubic.sites());
+        assertEquals(2, cubic.clusterCount());
+    }
+
+    @Test
+    public void testBondPercolation() {
+        BondPercolation bond = new BondPercolation(3, 3);
+        assertEquals(9, bond.clusterCount());
+        bond.openVerticalBond(1, 1);
+        bond.openHorizontalBond(2, 1);
+        bond.openHorizontalBond(2, 1);
+        assertTrue(bond.isFull(2, 2));
+        assertFalse(bond.isFull(3, 2));
+        assertFalse(bond.percolates());
+        bond.openVerticalBond(2, 2);
+        assertTrue(bond.percolates());
+        assertEquals(3, bond.numberOfOpenBonds());
+        assertEquals(4, bond.largestClusterSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBondOutsideGrid() {
+        new BondPercolation(3, 3).openHorizontalBond(1, 3);
+    }
+
+    @Test
+    public void testGridLatticesShareOpenAndFullQueries() {
+        GridLatticePercolation[] lattices = {new RectangularPercolation(3, 2), new PeriodicPercolation(3, 2),
+                                             new MoorePercolation(3, 2), new TriangularPercolation(3, 2)};
+        for (GridLatticePercolation lattice : lattices) {
+            lattice.open(1, 2);
+            lattice.open(2, 2);
+            assertTrue(lattice.isOpen(2, 2));
+            assertFalse(lattice.isOpen(3, 2));
+            assertTrue(lattice.isFull(2, 2));
+            assertFalse(lattice.percolates());
+            lattice.open(3, 2);
+            assertTrue(lattice.percolates());
+            assertEquals(3, lattice.rows());
+            assertEquals(2, lattice.cols());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLatticeTooLarge() {
+        new CubicPercolation(2000);
+    }
+
+}
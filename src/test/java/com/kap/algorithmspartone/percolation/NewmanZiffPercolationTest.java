@@ -0,0 +1,42 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class NewmanZiffPercolationTest {
+
+    @Test
+    public void testCurveEndpoints() {
+        NewmanZiffPercolation nz = new NewmanZiffPercolation(16, 20, 1L);
+        assertEquals(0.0, nz.spanningProbability(0.0), 0.0);
+        assertEquals(1.0, nz.spanningProbability(1.0), 0.0);
+        assertEquals(1.0, nz.largestClusterFraction(1.0), 0.0);
+        assertEquals(1.0 / 256, nz.largestClusterFractionAt(1), 0.0);
+    }
+
+    @Test
+    public void testSpanningProbabilityIsIncreasing() {
+        NewmanZiffPercolation nz = new NewmanZiffPercolation(16, 50, 2L);
+        double[] curve = nz.spanningProbability(new double[] {0.3, 0.5, 0.6, 0.7, 0.9});
+        for (int i = 1; i < curve.length; i++) {
+            assertTrue(curve[i - 1] <= curve[i]);
+        }
+    }
+
+    @Test
+    public void testSpanningProbabilityNearThreshold() {
+        NewmanZiffPercolation nz = new NewmanZiffPercolation(32, 200, 3L);
+        assertEquals(0.5, nz.spanningProbability(0.593), 0.15);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidProbability() {
+        new NewmanZiffPercolation(4, 1, 1L).spanningProbability(1.5);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class OffHeapPercolationTest {
+
+    @Test
+    public void testDirectBuffersAgreeWithPercolation() {
+        assertAgreesWithPercolation(new OffHeapPercolation(40), 40, 1L);
+    }
+
+    @Test
+    public void testMappedFilesAgreeWithPercolation() throws IOException {
+        Path directory = Files.createTempDirectory("offheap-percolation");
+        assertAgreesWithPercolation(new OffHeapPercolation(40, directory), 40, 2L);
+    }
+
+    @Test
+    public void testMappedFilesLeftByEarlierSystemAreTruncated() throws IOException {
+        Path directory = Files.createTempDirectory("offheap-percolation");
+        OffHeapPercolation earlier = new OffHeapPercolation(10, directory);
+        for (int row = 1; row <= 10; row++) {
+            earlier.open(row, 1);
+        }
+        assertAgreesWithPercolation(new OffHeapPercolation(10, directory), 10, 3L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGridTooLarge() {
+        new OffHeapPercolation(Integer.MAX_VALUE);
+    }
+
+    private static void assertAgreesWithPercolation(OffHeapPercolation offHeap, int n, long seed) {
+        Percolation percolation = new Percolation(n);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int step = 0; step < n * n; step++) {
+            int row = random.nextInt(n) + 1;
+            int col = random.nextInt(n) + 1;
+            offHeap.open(row, col);
+            percolation.open(row, col);
+            assertEquals(percolation.percolates(), offHeap.percolates());
+        }
+        assertEquals(percolation.numberOfOpenSites(), offHeap.numberOfOpenSites());
+        for (int row = 1; row <= n; row++) {
+            for (int col = 1; col <= n; col++) {
+                assertEquals(percolation.isOpen(row, col), offHeap.isOpen(row, col));
+                assertEquals(percolation.isFull(row, col), offHeap.isFull(row, col));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class OfflineDynamicPercolationTest {
+
+    @Test
+    public void testAgreesWithOnlineClose() {
+        int n = 12;
+        int events = 2000;
+        OfflineDynamicPercolation offline = new OfflineDynamicPercolation(n);
+        Percolation online = new Percolation(n);
+        SplittableRandom random = new SplittableRandom(5);
+
+        boolean[] expectedPercolates = new boolean[events + 1];
+        boolean[] expectedFull = new boolean[events];
+        int[] queries = new int[events];
+        for (int event = 0; event < events; event++) {
+            int row = random.nextInt(n) + 1;
+            int col = random.nextInt(n) + 1;
+            // open twice as often as close, so that the grid keeps crossing the threshold
+            if (random.nextInt(3) == 0) {
+                online.close(row, col);
+                offline.close(row, col);
+            } else {
+                online.open(row, col);
+                offline.open(row, col);
+            }
+            expectedPercolates[event + 1] = online.percolates();
+
+            row = random.nextInt(n) + 1;
+            col = random.nextInt(n) + 1;
+            expectedFull[event] = online.isFull(row, col);
+            queries[event] = offline.queryFull(row, col);
+        }
+
+        assertEquals(events, offline.events());
+        for (int state = 0; state <= events; state++) {
+            assertEquals(expectedPercolates[state], offline.percolates(state));
+        }
+        for (int event = 0; event < events; event++) {
+            assertEquals(expectedFull[event], offline.isFull(queries[event]));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStateOutsideLog() {
+        OfflineDynamicPercolation offline = new OfflineDynamicPercolation(3);
+        offline.open(1, 1);
+        offline.percolates(2);
+    }
+
+}
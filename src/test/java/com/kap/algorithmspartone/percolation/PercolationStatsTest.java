@@ -0,0 +1,70 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class PercolationStatsTest {
+
+    @Test
+    public void testSameSeedGivesSameResultsWhateverTheParallelism() {
+        for (TrialStrategy strategy : TrialStrategy.values()) {
+            PercolationStats sequential = new PercolationStats(20, 50, 42L, 1, strategy);
+            PercolationStats parallel = new PercolationStats(20, 50, 42L, 4, strategy);
+            assertEquals(sequential.mean(), parallel.mean(), 0.0);
+            assertEquals(sequential.stddev(), parallel.stddev(), 0.0);
+            assertEquals(sequential.confidenceLo(), parallel.confidenceLo(), 0.0);
+            assertEquals(sequential.confidenceHi(), parallel.confidenceHi(), 0.0);
+        }
+    }
+
+    @Test
+    public void testMeanIsCloseToThreshold() {
+        PercolationStats stats = new PercolationStats(50, 100, 7L, 2);
+        assertTrue(stats.confidenceLo() < stats.mean());
+        assertTrue(stats.mean() < stats.confidenceHi());
+        assertEquals(0.593, stats.mean(), 0.02);
+    }
+
+    @Test
+    public void testShuffledSitesAgreesWithRejectionSampling() {
+        PercolationStats rejection = new PercolationStats(50, 200, 11L, 2, TrialStrategy.REJECTION_SAMPLING);
+        PercolationStats shuffled = new PercolationStats(50, 200, 11L, 2, TrialStrategy.SHUFFLED_SITES);
+        assertEquals(rejection.mean(), shuffled.mean(), 0.01);
+    }
+
+    @Test
+    public void testTargetHalfWidthStopsOnceIntervalIsNarrowEnough() {
+        PercolationStats stats = PercolationStats.withTargetHalfWidth(20, 0.005, 100000, 3L, 2,
+                                                                      TrialStrategy.SHUFFLED_SITES);
+        assertTrue(stats.trials() < 100000);
+        assertTrue((stats.confidenceHi() - stats.mean()) <= 0.005);
+    }
+
+    @Test
+    public void testTargetHalfWidthIsReproducibleWhateverTheParallelism() {
+        for (TrialStrategy strategy : TrialStrategy.values()) {
+            PercolationStats sequential = PercolationStats.withTargetHalfWidth(10, 0.01, 10000, 5L, 1, strategy);
+            PercolationStats parallel = PercolationStats.withTargetHalfWidth(10, 0.01, 10000, 5L, 3, strategy);
+            assertEquals(sequential.trials(), parallel.trials());
+            assertEquals(sequential.mean(), parallel.mean(), 0.0);
+        }
+    }
+
+    @Test
+    public void testTargetHalfWidthRespectsMaxTrials() {
+        PercolationStats stats = PercolationStats.withTargetHalfWidth(10, 1e-9, 50, 5L, 1,
+                                                                      TrialStrategy.REJECTION_SAMPLING);
+        assertEquals(50, stats.trials());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() {
+        new PercolationStats(10, 10, 1L, 0);
+    }
+
+}
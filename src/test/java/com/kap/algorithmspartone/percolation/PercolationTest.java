@@ -0,0 +1,392 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class PercolationTest {
+
+    @Test
+    public void testVerticalPathPercolates() {
+        for (UnionFindType type : UnionFindType.values()) {
+            Percolation percolation = new Percolation(3, type);
+            percolation.open(1, 2);
+            percolation.open(2, 2);
+            assertFalse(percolation.percolates());
+            percolation.open(3, 2);
+            assertTrue(percolation.percolates());
+            assertTrue(percolation.isFull(3, 2));
+            assertEquals(3, percolation.numberOfOpenSites());
+        }
+    }
+
+    @Test
+    public void testWindingPathPercolates() {
+        for (UnionFindType type : UnionFindType.values()) {
+            Percolation percolation = new Percolation(4, type);
+            percolation.open(1, 1);
+            percolation.open(2, 1);
+            percolation.open(2, 2);
+            percolation.open(2, 3);
+            percolation.open(3, 3);
+            percolation.open(3, 4);
+            assertTrue(percolation.isFull(3, 4));
+            assertFalse(percolation.isFull(4, 4));
+            assertFalse(percolation.percolates());
+            percolation.open(4, 4);
+            assertTrue(percolation.percolates());
+        }
+    }
+
+    @Test
+    public void testOpeningOpenSiteTwiceCountsOnce() {
+        Percolation percolation = new Percolation(2);
+        percolation.open(1, 1);
+        percolation.open(1, 1);
+        assertEquals(1, percolation.numberOfOpenSites());
+    }
+
+    @Test
+    public void testResetBlocksEverySite() {
+        for (UnionFindType type : UnionFindType.values()) {
+            Percolation percolation = new Percolation(2, type);
+            percolation.open(1, 1);
+            percolation.open(2, 1);
+            assertTrue(percolation.percolates());
+            percolation.reset();
+            assertFalse(percolation.percolates());
+            assertFalse(percolation.isOpen(1, 1));
+            assertFalse(percolation.isFull(1, 1));
+            assertEquals(0, percolation.numberOfOpenSites());
+            percolation.open(1, 2);
+            assertTrue(percolation.isFull(1, 2));
+        }
+    }
+
+    @Test
+    public void testNoBackwashThroughBottomRow() {
+        Percolation percolation = new Percolation(3);
+        percolation.open(1, 1);
+        percolation.open(2, 1);
+        percolation.open(3, 1);
+        percolation.open(3, 3);
+        assertTrue(percolation.percolates());
+        assertFalse(percolation.isFull(3, 3));
+    }
+
+    @Test
+    public void testClusterStatistics() {
+        for (UnionFindType type : UnionFindType.values()) {
+            Percolation percolation = new Percolation(4, type);
+            assertEquals(0, percolation.clusterCount());
+            assertEquals(0, percolation.largestClusterSize());
+            percolation.open(1, 1);
+            percolation.open(1, 3);
+            percolation.open(3, 3);
+            assertEquals(3, percolation.clusterCount());
+            assertEquals(3, percolation.clusterCountOfSize(1));
+            percolation.open(2, 3);
+            assertEquals(2, percolation.clusterCount());
+            assertEquals(3, percolation.largestClusterSize());
+            assertEquals(3, percolation.clusterSize(2, 3));
+            assertEquals(1, percolation.clusterSize(1, 1));
+            assertEquals(0, percolation.clusterSize(4, 4));
+            assertEquals(1, percolation.clusterCountOfSize(1));
+            assertEquals(1, percolation.clusterCountOfSize(3));
+            percolation.open(1, 2);
+            assertEquals(1, percolation.clusterCount());
+            assertEquals(5, percolation.largestClusterSize());
+            assertEquals(0, percolation.clusterCountOfSize(3));
+            assertEquals(1, percolation.clusterCountOfSize(5));
+        }
+    }
+
+    @Test
+    public void testSingleSiteGrid() {
+        Percolation percolation = new Percolation(1);
+        assertFalse(percolation.percolates());
+        percolation.open(1, 1);
+        assertTrue(percolation.percolates());
+    }
+
+    @Test
+    public void testTiledLayoutAgreesWithRowMajor() {
+        for (int n : new int[]{1, 7, 8, 13, 24}) {
+            Percolation rowMajor = new Percolation(n, UnionFindType.COMPACT, SiteLayout.ROW_MAJOR);
+            Percolation tiled = new Percolation(n, UnionFindType.COMPACT, SiteLayout.TILED_Z_ORDER);
+            SplittableRandom random = new SplittableRandom(n);
+            for (int step = 0; step < n * n; step++) {
+                int row = random.nextInt(n) + 1;
+                int col = random.nextInt(n) + 1;
+                rowMajor.open(row, col);
+                tiled.open(row, col);
+                assertEquals(rowMajor.percolates(), tiled.percolates());
+                assertEquals(rowMajor.clusterCount(), tiled.clusterCount());
+                assertEquals(rowMajor.largestClusterSize(), tiled.largestClusterSize());
+            }
+            for (int row = 1; row <= n; row++) {
+                for (int col = 1; col <= n; col++) {
+                    assertEquals(rowMajor.isFull(row, col), tiled.isFull(row, col));
+                    assertEquals(rowMajor.clusterSize(row, col), tiled.clusterSize(row, col));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSnapshotRestoresState() throws IOException {
+        int n = 30;
+        Path file = Files.createTempFile("percolation", ".snapshot");
+        for (SiteLayout layout : SiteLayout.values()) {
+            Percolation original = new Percolation(n, UnionFindType.COMPACT, layout);
+            SplittableRandom random = new SplittableRandom(7);
+            for (int step = 0; step < 400; step++) {
+                original.open(random.nextInt(n) + 1, random.nextInt(n) + 1);
+            }
+            original.writeSnapshot(file);
+            Percolation restored = Percolation.readSnapshot(file);
+
+            for (int step = 0; step < n * n; step++) {
+                int row = random.nextInt(n) + 1;
+                int col = random.nextInt(n) + 1;
+                original.open(row, col);
+                restored.open(row, col);
+                assertEquals(original.percolates(), restored.percolates());
+                assertEquals(original.numberOfOpenSites(), restored.numberOfOpenSites());
+                assertEquals(original.clusterCount(), restored.clusterCount());
+                assertEquals(original.largestClusterSize(), restored.largestClusterSize());
+            }
+            for (int row = 1; row <= n; row++) {
+                for (int col = 1; col <= n; col++) {
+                    assertEquals(original.isFull(row, col), restored.isFull(row, col));
+                    assertEquals(original.clusterSize(row, col), restored.clusterSize(row, col));
+                }
+            }
+            for (int size = 1; size <= n * n; size++) {
+                assertEquals(original.clusterCountOfSize(size), restored.clusterCountOfSize(size));
+            }
+        }
+        Files.delete(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadSnapshotRejectsOtherFiles() throws IOException {
+        Path file = Files.createTempFile("percolation", ".snapshot");
+        Files.write(file, new byte[64]);
+        try {
+            Percolation.readSnapshot(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSnapshotNeedsCompactUnionFind() throws IOException {
+        Percolation percolation = new Percolation(3, UnionFindType.WEIGHTED_QUICK_UNION);
+        Path file = Files.createTempFile("percolation", ".snapshot");
+        try {
+            percolation.writeSnapshot(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRollbackRestoresCheckpoint() {
+        int n = 20;
+        Percolation speculative = new Percolation(n, UnionFindType.ROLLBACK);
+        Percolation base = new Percolation(n);
+        Percolation batch = new Percolation(n);
+        SplittableRandom random = new SplittableRandom(11);
+        for (int step = 0; step < 150; step++) {
+            int row = random.nextInt(n) + 1;
+            int col = random.nextInt(n) + 1;
+            speculative.open(row, col);
+            base.open(row, col);
+            batch.open(row, col);
+        }
+
+        speculative.checkpoint();
+        for (int step = 0; step < 150; step++) {
+            int row = random.nextInt(n) + 1;
+            int col = random.nextInt(n) + 1;
+            speculative.open(row, col);
+            batch.open(row, col);
+        }
+        speculative.checkpoint();
+        for (int step = 0; step < 300; step++) {
+            speculative.open(random.nextInt(n) + 1, random.nextInt(n) + 1);
+        }
+
+        speculative.rollback();
+        assertSameState(batch, speculative, n);
+        speculative.rollback();
+        assertSameState(base, speculative, n);
+
+        // unions made with no checkpoint open are not recorded, and later checkpoints still roll back exactly
+        for (int step = 0; step < 50; step++) {
+            int row = random.nextInt(n) + 1;
+            int col = random.nextInt(n) + 1;
+            speculative.open(row, col);
+            base.open(row, col);
+        }
+        speculative.checkpoint();
+        for (int step = 0; step < 100; step++) {
+            speculative.open(random.nextInt(n) + 1, random.nextInt(n) + 1);
+        }
+        speculative.rollback();
+        assertSameState(base, speculative, n);
+    }
+
+    @Test
+    public void testCloseSplitsCluster() {
+        Percolation percolation = new Percolation(3);
+        percolation.open(1, 2);
+        percolation.open(2, 2);
+        percolation.open(3, 2);
+        percolation.open(2, 3);
+        assertTrue(percolation.percolates());
+
+        percolation.close(2, 2);
+        assertFalse(percolation.percolates());
+        assertFalse(percolation.isOpen(2, 2));
+        assertFalse(percolation.isFull(3, 2));
+        assertEquals(3, percolation.numberOfOpenSites());
+        assertEquals(3, percolation.clusterCount());
+        assertEquals(1, percolation.largestClusterSize());
+
+        percolation.open(2, 2);
+        assertTrue(percolation.percolates());
+        assertEquals(4, percolation.largestClusterSize());
+    }
+
+    @Test
+    public void testCloseMatchesRebuiltGrid() {
+        int n = 12;
+        for (UnionFindType type : UnionFindType.values()) {
+            for (SiteLayout layout : SiteLayout.values()) {
+                SplittableRandom random = new SplittableRandom(17);
+                Percolation percolation = new Percolation(n, type, layout);
+                for (int step = 0; step < 3 * n * n; step++) {
+                    int row = 1 + random.nextInt(n);
+                    int col = 1 + random.nextInt(n);
+                    if (random.nextInt(3) == 0) {
+                        percolation.close(row, col);
+                    } else {
+                        percolation.open(row, col);
+                    }
+                    if (step % 16 == 0) {
+                        assertSameState(rebuilt(percolation, n), percolation, n);
+                    }
+                }
+                assertSameState(rebuilt(percolation, n), percolation, n);
+            }
+        }
+    }
+
+    @Test
+    public void testOpenAllMatchesSingleOpens() {
+        int n = 25;
+        int steps = n * n;
+        int[] rows = new int[steps];
+        int[] cols = new int[steps];
+        int[] siteIndices = new int[steps];
+        SplittableRandom random = new SplittableRandom(13);
+        Percolation single = new Percolation(n);
+        int expectedStep = 0;
+        for (int step = 0; step < steps; step++) {
+            rows[step] = random.nextInt(n) + 1;
+            cols[step] = random.nextInt(n) + 1;
+            siteIndices[step] = (n * (rows[step] - 1)) + cols[step] - 1;
+            single.open(rows[step], cols[step]);
+            if (single.percolates() && (expectedStep == 0)) {
+                expectedStep = step + 1;
+            }
+        }
+
+        Percolation byCoordinates = new Percolation(n);
+        byCoordinates.openAll(rows, cols);
+        assertSameState(single, byCoordinates, n);
+
+        Percolation byIndex = new Percolation(n, UnionFindType.COMPACT, SiteLayout.TILED_Z_ORDER);
+        byIndex.openAll(siteIndices);
+        assertSameState(single, byIndex, n);
+
+        Percolation replayed = new Percolation(n);
+        assertEquals(expectedStep, replayed.replay(rows, cols));
+        assertEquals(0, replayed.replay(rows, cols));
+        assertSameState(single, replayed, n);
+    }
+
+    @Test
+    public void testOpenAllValidatesBeforeOpening() {
+        Percolation percolation = new Percolation(3);
+        try {
+            percolation.openAll(new int[]{1, 2, 4}, new int[]{1, 1, 1});
+        } catch (IllegalArgumentException e) {
+            assertEquals(0, percolation.numberOfOpenSites());
+            return;
+        }
+        throw new AssertionError("invalid batch accepted");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRollbackWithoutCheckpoint() {
+        new Percolation(3, UnionFindType.ROLLBACK).rollback();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCheckpointNeedsRollbackUnionFind() {
+        new Percolation(3).checkpoint();
+    }
+
+    private static Percolation rebuilt(Percolation percolation, int n) {
+        Percolation rebuilt = new Percolation(n);
+        for (int row = 1; row <= n; row++) {
+            for (int col = 1; col <= n; col++) {
+                if (percolation.isOpen(row, col)) {
+                    rebuilt.open(row, col);
+                }
+            }
+        }
+        return rebuilt;
+    }
+
+    private static void assertSameState(Percolation expected, Percolation actual, int n) {
+        assertEquals(expected.percolates(), actual.percolates());
+        assertEquals(expected.numberOfOpenSites(), actual.numberOfOpenSites());
+        assertEquals(expected.clusterCount(), actual.clusterCount());
+        assertEquals(expected.largestClusterSize(), actual.largestClusterSize());
+        for (int row = 1; row <= n; row++) {
+            for (int col = 1; col <= n; col++) {
+                assertEquals(expected.isOpen(row, col), actual.isOpen(row, col));
+                assertEquals(expected.isFull(row, col), actual.isFull(row, col));
+                assertEquals(expected.clusterSize(row, col), actual.clusterSize(row, col));
+            }
+        }
+        for (int size = 1; size <= n * n; size++) {
+            assertEquals(expected.clusterCountOfSize(size), actual.clusterCountOfSize(size));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOpenOutsideGrid() {
+        new Percolation(3).open(4, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidGridSize() {
+        new Percolation(0);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class RandomSourceTest {
+
+    @Test
+    public void testSplitMixMatchesSplittableRandom() {
+        RandomSource source = RandomSourceType.SPLIT_MIX.create(123L);
+        SplittableRandom reference = new SplittableRandom(123L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(reference.nextLong(), source.nextLong());
+        }
+    }
+
+    @Test
+    public void testReseedRestartsTheSequence() {
+        for (RandomSourceType type : RandomSourceType.values()) {
+            RandomSource source = type.create(7L);
+            long first = source.nextLong();
+            source.nextLong();
+            source.reseed(7L);
+            assertEquals(first, source.nextLong());
+        }
+    }
+
+    @Test
+    public void testBoundedIntsAreInRangeAndRoughlyUniform() {
+        for (RandomSourceType type : RandomSourceType.values()) {
+            RandomSource source = type.create(1L);
+            int bound = 10;
+            int[] counts = new int[bound];
+            for (int i = 0; i < 100000; i++) {
+                int value = source.nextInt(bound);
+                assertTrue((value >= 0) && (value < bound));
+                counts[value]++;
+            }
+            for (int count : counts) {
+                assertEquals(10000, count, 500);
+            }
+            assertTrue(source.nextInt(1) == 0);
+            assertTrue(source.nextInt(Integer.MAX_VALUE) >= 0);
+        }
+    }
+
+}
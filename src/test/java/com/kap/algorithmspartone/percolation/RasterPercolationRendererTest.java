@@ -0,0 +1,39 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class RasterPercolationRendererTest {
+
+    @Test
+    public void testIncrementalImageMatchesFullRedraw() {
+        int n = 20;
+        int cellSize = 1;
+        Percolation percolation = new Percolation(n);
+        RasterPercolationRenderer renderer = new RasterPercolationRenderer(n, cellSize);
+        SplittableRandom random = new SplittableRandom(9);
+        for (int step = 0; step < 300; step++) {
+            int row = random.nextInt(n) + 1;
+            int col = random.nextInt(n) + 1;
+            percolation.open(row, col);
+            renderer.opened(percolation, row, col);
+        }
+
+        BufferedImage image = renderer.image();
+        for (int row = 1; row <= n; row++) {
+            for (int col = 1; col <= n; col++) {
+                int expected = percolation.isFull(row, col) ? 0x67C6F3 : percolation.isOpen(row, col) ? 0xFFFFFF : 0;
+                assertEquals(expected, image.getRGB(col - 1, row - 1) & 0xFFFFFF);
+            }
+        }
+        assertEquals(percolation.numberOfOpenSites(), renderer.openSites());
+    }
+
+}
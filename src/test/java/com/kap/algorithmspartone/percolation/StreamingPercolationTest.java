@@ -0,0 +1,103 @@
+package com.kap.algorithmspartone.percolation;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class StreamingPercolationTest {
+
+    @Test
+    public void testAgreesWithFloodFillOnRandomGrids() {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int grid = 0; grid < 200; grid++) {
+            int width = 1 + random.nextInt(12);
+            int height = 1 + random.nextInt(12);
+            boolean[][] open = new boolean[height][width];
+            StreamingPercolation streaming = new StreamingPercolation(width);
+            for (int row = 0; row < height; row++) {
+                for (int col = 0; col < width; col++) {
+                    open[row][col] = random.nextDouble() < 0.6;
+                }
+                streaming.addRow(open[row]);
+            }
+
+            long[] expected = floodFill(open);
+            assertEquals(expected[0], streaming.clusterCount());
+            assertEquals(expected[1], streaming.largestClusterSize());
+            assertEquals(expected[2] == 1, streaming.percolates());
+        }
+    }
+
+    @Test
+    public void testPackedRows() {
+        StreamingPercolation streaming = new StreamingPercolation(70);
+        streaming.addRow(new long[] {1L << 3, 1L << 5});
+        streaming.addRow(new long[] {1L << 3, 0L});
+        assertTrue(streaming.percolates());
+        assertEquals(2, streaming.clusterCount());
+        assertEquals(2, streaming.largestClusterSize());
+        streaming.addRow(new long[] {0L, 1L << 5});
+        assertFalse(streaming.percolates());
+        assertEquals(3, streaming.clusterCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRowOfWrongWidth() {
+        new StreamingPercolation(3).addRow(new boolean[4]);
+    }
+
+    /**
+     * @return cluster count, largest cluster size and 1 if the grid percolates
+     */
+    private static long[] floodFill(boolean[][] open) {
+        int height = open.length;
+        int width = open[0].length;
+        boolean[][] seen = new boolean[height][width];
+        long clusters = 0;
+        long largest = 0;
+        long percolates = 0;
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                if (!open[row][col] || seen[row][col]) {
+                    continue;
+                }
+                clusters++;
+                long size = 0;
+                boolean top = false;
+                boolean bottom = false;
+                ArrayDeque<int[]> queue = new ArrayDeque<>();
+                queue.add(new int[] {row, col});
+                seen[row][col] = true;
+                while (!queue.isEmpty()) {
+                    int[] site = queue.poll();
+                    size++;
+                    top |= site[0] == 0;
+                    bottom |= site[0] == height - 1;
+                    int[][] neighbours = {{site[0] - 1, site[1]}, {site[0] + 1, site[1]},
+                                          {site[0], site[1] - 1}, {site[0], site[1] + 1}};
+                    for (int[] n : neighbours) {
+                        if ((n[0] >= 0) && (n[0] < height) && (n[1] >= 0) && (n[1] < width)
+                            && open[n[0]][n[1]] && !seen[n[0]][n[1]]) {
+                            seen[n[0]][n[1]] = true;
+                            queue.add(n);
+                        }
+                    }
+                }
+                largest = Math.max(largest, size);
+                if (top && bottom) {
+                    percolates = 1;
+                }
+            }
+        }
+        return new long[] {clusters, largest, percolates};
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class DoubleDequeTest {
+
+    @Test
+    public void testAgreesWithArrayDequeThroughGrowWrapAndShrink() {
+        DoubleDeque deque = new DoubleDeque();
+        ArrayDeque<Double> expected = new ArrayDeque<Double>();
+        Random random = new Random(3);
+        // fill well past the initial capacity, then drain far enough to shrink, adding at both ends so the head wraps
+        for (int step = 0; step < 50000; step++) {
+            boolean add = random.nextInt(100) < ((step < 25000) ? 70 : 30);
+            double item = step / 4.0;
+            if (add) {
+                if (random.nextBoolean()) {
+                    deque.addFirst(item);
+                    expected.addFirst(item);
+                } else {
+                    deque.addLast(item);
+                    expected.addLast(item);
+                }
+            } else if (!expected.isEmpty()) {
+                if (random.nextBoolean()) {
+                    assertEquals((double) expected.removeFirst(), deque.removeFirst(), 0.0);
+                } else {
+                    assertEquals((double) expected.removeLast(), deque.removeLast(), 0.0);
+                }
+            }
+            assertEquals(expected.size(), deque.size());
+        }
+
+        double[] array = deque.toArray();
+        PrimitiveIterator.OfDouble iterator = deque.iterator();
+        int i = 0;
+        for (double item : expected) {
+            assertEquals(item, array[i], 0.0);
+            assertEquals(item, deque.get(i), 0.0);
+            assertEquals(item, iterator.nextDouble(), 0.0);
+            i++;
+        }
+        assertEquals(expected.size(), array.length);
+        assertFalse(iterator.hasNext());
+
+        while (!expected.isEmpty()) {
+            assertEquals((double) expected.removeLast(), deque.removeLast(), 0.0);
+        }
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveFirstFromEmpty() {
+        new DoubleDeque().removeFirst();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveLastFromDrained() {
+        DoubleDeque deque = new DoubleDeque();
+        deque.addFirst(1.0);
+        deque.removeFirst();
+        deque.removeLast();
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class DoubleRandomizedQueueTest {
+
+    @Test
+    public void testDequeueReturnsEveryItemOnceThroughGrowAndShrink() {
+        DoubleRandomizedQueue queue = new DoubleRandomizedQueue();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 1000; i++) {
+                queue.enqueue((i / 4.0));
+            }
+            assertEquals(1000, queue.size());
+            double[] dequeued = new double[1000];
+            for (int i = 0; i < 1000; i++) {
+                dequeued[i] = queue.dequeue();
+            }
+            assertTrue(queue.isEmpty());
+            Arrays.sort(dequeued);
+            for (int i = 0; i < 1000; i++) {
+                assertEquals((i / 4.0), dequeued[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testIteratorAndToArrayHoldEveryItem() {
+        DoubleRandomizedQueue queue = new DoubleRandomizedQueue();
+        for (int i = 0; i < 100; i++) {
+            queue.enqueue((i / 4.0));
+        }
+        double[] iterated = new double[100];
+        PrimitiveIterator.OfDouble iterator = queue.iterator();
+        for (int i = 0; i < 100; i++) {
+            iterated[i] = iterator.nextDouble();
+        }
+        assertFalse(iterator.hasNext());
+        assertEquals(100, queue.size());
+
+        double[] array = queue.toArray();
+        Arrays.sort(iterated);
+        Arrays.sort(array);
+        for (int i = 0; i < 100; i++) {
+            assertEquals((i / 4.0), iterated[i], 0.0);
+            assertEquals((i / 4.0), array[i], 0.0);
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testDequeueFromEmpty() {
+        new DoubleRandomizedQueue().dequeue();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testSampleFromDrained() {
+        DoubleRandomizedQueue queue = new DoubleRandomizedQueue();
+        queue.enqueue(1.0);
+        queue.dequeue();
+        queue.sample();
+    }
+
+}
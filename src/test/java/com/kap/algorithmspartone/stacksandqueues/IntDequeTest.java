@@ -0,0 +1,88 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class IntDequeTest {
+
+    @Test
+    public void testAddAndRemoveAtBothEnds() {
+        IntDeque deque = new IntDeque();
+        deque.addFirst(2);
+        deque.addFirst(3);
+        deque.addLast(5);
+        assertEquals(3, deque.size());
+        assertEquals(3, deque.removeFirst());
+        assertEquals(5, deque.removeLast());
+        assertEquals(2, deque.removeLast());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    public void testAgreesWithArrayDeque() {
+        IntDeque deque = new IntDeque();
+        ArrayDeque<Integer> expected = new ArrayDeque<Integer>();
+        Random random = new Random(2);
+        for (int step = 0; step < 50000; step++) {
+            boolean add = random.nextInt(100) < ((step < 25000) ? 70 : 30);
+            if (add) {
+                if (random.nextBoolean()) {
+                    deque.addFirst(step);
+                    expected.addFirst(step);
+                } else {
+                    deque.addLast(step);
+                    expected.addLast(step);
+                }
+            } else if (!expected.isEmpty()) {
+                if (random.nextBoolean()) {
+                    assertEquals((int) expected.removeFirst(), deque.removeFirst());
+                } else {
+                    assertEquals((int) expected.removeLast(), deque.removeLast());
+                }
+            }
+        }
+
+        int[] array = deque.toArray();
+        PrimitiveIterator.OfInt iterator = deque.iterator();
+        int i = 0;
+        for (int item : expected) {
+            assertEquals(item, array[i]);
+            assertEquals(item, deque.get(i));
+            assertEquals(item, iterator.nextInt());
+            i++;
+        }
+        assertEquals(expected.size(), array.length);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testLongAndDoubleDeques() {
+        LongDeque longs = new LongDeque();
+        DoubleDeque doubles = new DoubleDeque();
+        for (int i = 0; i < 20; i++) {
+            longs.addFirst(1L << (i + 32));
+            doubles.addLast(i / 2.0);
+        }
+        assertEquals(1L << 51, longs.removeFirst());
+        assertEquals(1L << 32, longs.toArray()[18]);
+        assertEquals(9.5, doubles.removeLast(), 0.0);
+        assertEquals(0.5, doubles.iterator().nextDouble() + doubles.get(1), 0.0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        new IntDeque().removeLast();
+    }
+
+}
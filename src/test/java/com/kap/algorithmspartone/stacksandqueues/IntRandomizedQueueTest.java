@@ -0,0 +1,75 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class IntRandomizedQueueTest {
+
+    @Test
+    public void testDequeueReturnsEveryItemOnce() {
+        IntRandomizedQueue queue = new IntRandomizedQueue();
+        for (int i = 0; i < 1000; i++) {
+            queue.enqueue(i);
+        }
+        int[] dequeued = new int[1000];
+        for (int i = 0; i < 1000; i++) {
+            dequeued[i] = queue.dequeue();
+        }
+        assertTrue(queue.isEmpty());
+        Arrays.sort(dequeued);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, dequeued[i]);
+        }
+    }
+
+    @Test
+    public void testIteratorAndToArrayHoldEveryItem() {
+        IntRandomizedQueue queue = new IntRandomizedQueue();
+        for (int i = 0; i < 100; i++) {
+            queue.enqueue(i);
+        }
+        int[] iterated = new int[100];
+        PrimitiveIterator.OfInt iterator = queue.iterator();
+        for (int i = 0; i < 100; i++) {
+            iterated[i] = iterator.nextInt();
+        }
+        assertFalse(iterator.hasNext());
+        assertEquals(100, queue.size());
+
+        int[] array = queue.toArray();
+        Arrays.sort(iterated);
+        Arrays.sort(array);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, iterated[i]);
+            assertEquals(i, array[i]);
+        }
+    }
+
+    @Test
+    public void testLongAndDoubleQueues() {
+        LongRandomizedQueue longs = new LongRandomizedQueue();
+        DoubleRandomizedQueue doubles = new DoubleRandomizedQueue();
+        longs.enqueue(Long.MAX_VALUE);
+        doubles.enqueue(0.25);
+        assertEquals(Long.MAX_VALUE, longs.sample());
+        assertEquals(0.25, doubles.dequeue(), 0.0);
+        assertEquals(1, longs.toArray().length);
+        assertTrue(doubles.isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testSampleFromEmpty() {
+        new IntRandomizedQueue().sample();
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class LongDequeTest {
+
+    @Test
+    public void testAgreesWithArrayDequeThroughGrowWrapAndShrink() {
+        LongDeque deque = new LongDeque();
+        ArrayDeque<Long> expected = new ArrayDeque<Long>();
+        Random random = new Random(3);
+        // fill well past the initial capacity, then drain far enough to shrink, adding at both ends so the head wraps
+        for (int step = 0; step < 50000; step++) {
+            boolean add = random.nextInt(100) < ((step < 25000) ? 70 : 30);
+            long item = ((long) step << 32) | step;
+            if (add) {
+                if (random.nextBoolean()) {
+                    deque.addFirst(item);
+                    expected.addFirst(item);
+                } else {
+                    deque.addLast(item);
+                    expected.addLast(item);
+                }
+            } else if (!expected.isEmpty()) {
+                if (random.nextBoolean()) {
+                    assertEquals((long) expected.removeFirst(), deque.removeFirst());
+                } else {
+                    assertEquals((long) expected.removeLast(), deque.removeLast());
+                }
+            }
+            assertEquals(expected.size(), deque.size());
+        }
+
+        long[] array = deque.toArray();
+        PrimitiveIterator.OfLong iterator = deque.iterator();
+        int i = 0;
+        for (long item : expected) {
+            assertEquals(item, array[i]);
+            assertEquals(item, deque.get(i));
+            assertEquals(item, iterator.nextLong());
+            i++;
+        }
+        assertEquals(expected.size(), array.length);
+        assertFalse(iterator.hasNext());
+
+        while (!expected.isEmpty()) {
+            assertEquals((long) expected.removeLast(), deque.removeLast());
+        }
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveFirstFromEmpty() {
+        new LongDeque().removeFirst();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveLastFromDrained() {
+        LongDeque deque = new LongDeque();
+        deque.addFirst(1L);
+        deque.removeFirst();
+        deque.removeLast();
+    }
+
+}
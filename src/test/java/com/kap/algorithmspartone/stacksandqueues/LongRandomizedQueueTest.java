@@ -0,0 +1,74 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class LongRandomizedQueueTest {
+
+    @Test
+    public void testDequeueReturnsEveryItemOnceThroughGrowAndShrink() {
+        LongRandomizedQueue queue = new LongRandomizedQueue();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 1000; i++) {
+                queue.enqueue(((long) i << 32));
+            }
+            assertEquals(1000, queue.size());
+            long[] dequeued = new long[1000];
+            for (int i = 0; i < 1000; i++) {
+                dequeued[i] = queue.dequeue();
+            }
+            assertTrue(queue.isEmpty());
+            Arrays.sort(dequeued);
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(((long) i << 32), dequeued[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testIteratorAndToArrayHoldEveryItem() {
+        LongRandomizedQueue queue = new LongRandomizedQueue();
+        for (int i = 0; i < 100; i++) {
+            queue.enqueue(((long) i << 32));
+        }
+        long[] iterated = new long[100];
+        PrimitiveIterator.OfLong iterator = queue.iterator();
+        for (int i = 0; i < 100; i++) {
+            iterated[i] = iterator.nextLong();
+        }
+        assertFalse(iterator.hasNext());
+        assertEquals(100, queue.size());
+
+        long[] array = queue.toArray();
+        Arrays.sort(iterated);
+        Arrays.sort(array);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(((long) i << 32), iterated[i]);
+            assertEquals(((long) i << 32), array[i]);
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testDequeueFromEmpty() {
+        new LongRandomizedQueue().dequeue();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testSampleFromDrained() {
+        LongRandomizedQueue queue = new LongRandomizedQueue();
+        queue.enqueue(1L);
+        queue.dequeue();
+        queue.sample();
+    }
+
+}
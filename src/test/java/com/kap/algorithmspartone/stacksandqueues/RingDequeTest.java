@@ -0,0 +1,111 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class RingDequeTest {
+
+    @Test
+    public void testRemoveFirst() {
+        RingDeque<Integer> deque = new RingDeque<Integer>();
+        deque.addFirst(2);
+        deque.addFirst(3);
+        deque.addFirst(5);
+        assertEquals(5, (int) deque.removeFirst());
+        assertEquals(3, (int) deque.removeFirst());
+        assertEquals(2, (int) deque.removeFirst());
+        assertEquals(0, deque.size());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    public void testRemoveLast() {
+        RingDeque<Integer> deque = new RingDeque<Integer>();
+        deque.addLast(2);
+        deque.addLast(3);
+        deque.addLast(5);
+        assertEquals(5, (int) deque.removeLast());
+        assertEquals(3, (int) deque.removeLast());
+        assertEquals(2, (int) deque.removeLast());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    public void testGetAcrossWrapAround() {
+        RingDeque<Integer> deque = new RingDeque<Integer>();
+        for (int i = 0; i < 5; i++) {
+            deque.addLast(i);
+        }
+        for (int i = 1; i <= 5; i++) {
+            deque.addFirst(-i);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i - 5, (int) deque.get(i));
+        }
+        int expected = -5;
+        for (int item : deque) {
+            assertEquals(expected++, item);
+        }
+    }
+
+    @Test
+    public void testAgreesWithArrayDequeWhileGrowingAndShrinking() {
+        RingDeque<Integer> deque = new RingDeque<Integer>();
+        ArrayDeque<Integer> expected = new ArrayDeque<Integer>();
+        Random random = new Random(1);
+        for (int step = 0; step < 100000; step++) {
+            // grow during the first half, shrink during the second
+            boolean add = random.nextInt(100) < ((step < 50000) ? 70 : 30);
+            if (add) {
+                if (random.nextBoolean()) {
+                    deque.addFirst(step);
+                    expected.addFirst(step);
+                } else {
+                    deque.addLast(step);
+                    expected.addLast(step);
+                }
+            } else if (!expected.isEmpty()) {
+                if (random.nextBoolean()) {
+                    assertEquals(expected.removeFirst(), deque.removeFirst());
+                } else {
+                    assertEquals(expected.removeLast(), deque.removeLast());
+                }
+            }
+            assertEquals(expected.size(), deque.size());
+        }
+        Iterator<Integer> iterator = deque.iterator();
+        for (int item : expected) {
+            assertEquals(item, (int) iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        new RingDeque<Integer>().addLast(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetOutsideDeque() {
+        RingDeque<Integer> deque = new RingDeque<Integer>();
+        deque.addLast(1);
+        deque.get(1);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        new RingDeque<Integer>().removeFirst();
+    }
+
+}
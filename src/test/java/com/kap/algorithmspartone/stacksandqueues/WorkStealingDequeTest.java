@@ -0,0 +1,132 @@
+package com.kap.algorithmspartone.stacksandqueues;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertTrue;
+
+/**
+ * @author Konstantinos Antoniou
+ */
+public class WorkStealingDequeTest {
+
+    private static final int ITEMS = 200000;
+    private static final int THIEVES = 3;
+
+    @Test
+    public void testOwnerIsLifoAndThievesAreFifo() {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<Integer>();
+        for (int i = 0; i < 100; i++) {
+            deque.addLast(i);
+        }
+        assertEquals(100, deque.size());
+        assertEquals(0, (int) deque.removeFirst());
+        assertEquals(99, (int) deque.removeLast());
+        assertEquals(1, (int) deque.removeFirst());
+        for (int i = 98; i >= 2; i--) {
+            assertEquals(i, (int) deque.removeLast());
+        }
+        assertTrue(deque.isEmpty());
+        assertNull(deque.removeLast());
+        assertNull(deque.removeFirst());
+    }
+
+    @Test
+    public void testGrowsAcrossWrapAround() {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<Integer>();
+        int next = 0;
+        int expectedFirst = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 12; i++) {
+                deque.addLast(next++);
+            }
+            for (int i = 0; i < 5; i++) {
+                assertEquals(expectedFirst++, (int) deque.removeFirst());
+            }
+        }
+        assertEquals(next - expectedFirst, deque.size());
+        while (!deque.isEmpty()) {
+            assertEquals(expectedFirst++, (int) deque.removeFirst());
+        }
+        assertEquals(next, expectedFirst);
+    }
+
+    /**
+     * The owner adds every item once and removes some of them while thieves keep stealing. Every item must be taken
+     * exactly once, whoever takes it.
+     */
+    @Test
+    public void testEveryItemTakenExactlyOnceUnderConcurrentSteals() throws InterruptedException {
+        final WorkStealingDeque<Integer> deque = new WorkStealingDeque<Integer>();
+        final AtomicIntegerArray taken = new AtomicIntegerArray(ITEMS);
+        final AtomicBoolean ownerDone = new AtomicBoolean();
+        final CountDownLatch start = new CountDownLatch(1);
+        final Throwable[] failure = new Throwable[1];
+
+        Thread[] thieves = new Thread[THIEVES];
+        for (int i = 0; i < THIEVES; i++) {
+            thieves[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    awaitQuietly(start);
+                    while (!ownerDone.get() || !deque.isEmpty()) {
+                        Integer item = deque.removeFirst();
+                        if (item != null) {
+                            taken.incrementAndGet(item);
+                        }
+                    }
+                }
+            });
+            thieves[i].start();
+        }
+
+        Thread owner = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    awaitQuietly(start);
+                    Random random = new Random(4);
+                    for (int item = 0; item < ITEMS; item++) {
+                        deque.addLast(item);
+                        if (random.nextInt(3) == 0) {
+                            Integer popped = deque.removeLast();
+                            if (popped != null) {
+                                taken.incrementAndGet(popped);
+                            }
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure[0] = t;
+                } finally {
+                    ownerDone.set(true);
+                }
+            }
+        });
+        owner.start();
+        start.countDown();
+
+        owner.join();
+        for (Thread thief : thieves) {
+            thief.join();
+        }
+        assertNull(failure[0]);
+        for (int item = 0; item < ITEMS; item++) {
+            assertEquals("item " + item, 1, taken.get(item));
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}